@@ -3,21 +3,28 @@ package api.buyer.login;
 import api.seller.login.APISellerLogin;
 import utility.APIUtils;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Handles the login process for buyers by extending the seller login functionality.
  */
 public class APIBuyerLogin extends APISellerLogin {
 
+    // Login information by credentials, shared by all threads
+    private static final Map<Credentials, LoginInformation> cachedBuyerInfos = new ConcurrentHashMap<>();
+
     /**
      * Retrieves the login information for a buyer.
+     * If the same credentials are used, cached information is returned.
      *
      * @param credentials the buyer's login credentials
      * @return the buyer's LoginInformation object
      */
     public LoginInformation getBuyerInformation(Credentials credentials) {
-        // Perform buyer login using the API and return the login information
-        return new APIUtils().post("/api/authenticate/mobile", null, credentials)
+        // Perform buyer login using the API on first use and return the cached login information afterward
+        return cachedBuyerInfos.computeIfAbsent(credentials, key -> new APIUtils().post("/api/authenticate/mobile", null, key)
                 .then().statusCode(200)
-                .extract().as(LoginInformation.class);
+                .extract().as(LoginInformation.class));
     }
 }
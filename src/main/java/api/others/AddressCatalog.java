@@ -0,0 +1,248 @@
+package api.others;
+
+import api.seller.login.APISellerLogin;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import utility.PropertiesUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.apache.commons.lang.math.RandomUtils.nextInt;
+
+/**
+ * Local catalog of the province, district and ward hierarchy of a country.
+ * <p>
+ * The hierarchy is downloaded once per country, persisted to
+ * {@code <addressCatalogDirectory>/<countryCode>.json} with a version stamp and kept in memory,
+ * so random addresses are generated without any API call. A persisted catalog is downloaded again
+ * when its format version changes or it is older than {@code addressCatalogMaxAgeDays}.
+ */
+public class AddressCatalog {
+    private static final Logger logger = LogManager.getLogger();
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final Map<String, AddressCatalog> cachedCatalogs = new ConcurrentHashMap<>();
+
+    // Bump when the persisted format changes so stale files are downloaded again
+    private static final int CATALOG_VERSION = 1;
+
+    // Maximum number of concurrent requests while downloading districts and wards
+    private static final int DOWNLOAD_THREADS = 8;
+
+    // Countries whose provinces are split into districts and wards
+    private static final Set<String> SUBDIVIDED_COUNTRIES = Set.of("VN");
+
+    private final CatalogFile catalog;
+
+    private AddressCatalog(CatalogFile catalog) {
+        this.catalog = catalog;
+    }
+
+    /**
+     * Persisted representation of a country's address hierarchy.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CatalogFile {
+        private int version;
+        private long fetchedAt;
+        private String countryCode;
+        private List<ProvinceEntry> provinces;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProvinceEntry {
+        private APIGetProvinces.Province province;
+        private List<DistrictEntry> districts;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DistrictEntry {
+        private APIGetDistricts.District district;
+        private List<APIGetWards.Ward> wards;
+    }
+
+    /**
+     * A valid (province, district, ward) tuple.
+     * District and ward are empty placeholders when the country has no such level.
+     */
+    public record Address(APIGetProvinces.Province province, APIGetDistricts.District district, APIGetWards.Ward ward) {
+    }
+
+    /**
+     * Retrieves the address catalog of a country, loading it from disk or downloading it on first access.
+     *
+     * @param credentials The seller's credentials, used only when the catalog must be downloaded.
+     * @param countryCode The country code (e.g., VN).
+     * @return The shared {@link AddressCatalog} of the country.
+     */
+    public static AddressCatalog of(APISellerLogin.Credentials credentials, String countryCode) {
+        return cachedCatalogs.computeIfAbsent(countryCode, code -> load(credentials, code));
+    }
+
+    /**
+     * Returns a random valid address of the catalog's country.
+     * The selection matches the previous per-level random choice: a random province,
+     * then a random district of that province, then a random ward of that district.
+     *
+     * @return A random {@link Address}.
+     */
+    public Address randomAddress() {
+        List<ProvinceEntry> provinces = catalog.getProvinces();
+        if (provinces.isEmpty()) {
+            String countryCode = catalog.getCountryCode();
+            return new Address(new APIGetProvinces.Province(countryCode + "-OTHER", "Other", "Other"), emptyDistrict(), emptyWard());
+        }
+
+        ProvinceEntry provinceEntry = provinces.get(nextInt(provinces.size()));
+        List<DistrictEntry> districts = provinceEntry.getDistricts();
+        if (districts.isEmpty()) return new Address(provinceEntry.getProvince(), emptyDistrict(), emptyWard());
+
+        DistrictEntry districtEntry = districts.get(nextInt(districts.size()));
+        List<APIGetWards.Ward> wards = districtEntry.getWards();
+        APIGetWards.Ward ward = wards.isEmpty() ? emptyWard() : wards.get(nextInt(wards.size()));
+        return new Address(provinceEntry.getProvince(), districtEntry.getDistrict(), ward);
+    }
+
+    private static APIGetDistricts.District emptyDistrict() {
+        return new APIGetDistricts.District(0, "", "", "", "");
+    }
+
+    private static APIGetWards.Ward emptyWard() {
+        return new APIGetWards.Ward(0, "", "", "", 0);
+    }
+
+    /**
+     * Loads the catalog from disk when the persisted file is current, otherwise downloads and persists it.
+     *
+     * @param credentials The seller's credentials.
+     * @param countryCode The country code.
+     * @return The loaded {@link AddressCatalog}.
+     */
+    private static AddressCatalog load(APISellerLogin.Credentials credentials, String countryCode) {
+        Path file = Path.of(PropertiesUtils.getAddressCatalogDirectory(), "%s.json".formatted(countryCode));
+
+        CatalogFile persisted = readCatalog(file);
+        if (persisted != null && isCurrent(persisted)) {
+            logger.info("Loaded address catalog of {} from {}", countryCode, file);
+            return new AddressCatalog(persisted);
+        }
+
+        CatalogFile downloaded = download(credentials, countryCode);
+        writeCatalog(file, downloaded);
+        return new AddressCatalog(downloaded);
+    }
+
+    /**
+     * Checks whether a persisted catalog has the current format version and is not older than the maximum age.
+     */
+    private static boolean isCurrent(CatalogFile catalog) {
+        Duration maxAge = Duration.ofDays(PropertiesUtils.getAddressCatalogMaxAgeDays());
+        return catalog.getVersion() == CATALOG_VERSION
+               && catalog.getProvinces() != null
+               && Instant.ofEpochMilli(catalog.getFetchedAt()).plus(maxAge).isAfter(Instant.now());
+    }
+
+    /**
+     * Reads a persisted catalog, returning {@code null} when it is missing or unreadable.
+     */
+    private static CatalogFile readCatalog(Path file) {
+        if (!Files.exists(file)) return null;
+        try {
+            return mapper.readValue(file.toFile(), CatalogFile.class);
+        } catch (IOException ex) {
+            logger.warn("Ignoring unreadable address catalog {}: {}", file, ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Persists a catalog through a temporary file and an atomic rename, so concurrent runs never read a partial file.
+     * A failure to persist is logged and the in-memory catalog is still used.
+     */
+    private static void writeCatalog(Path file, CatalogFile catalog) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path tempFile = Files.createTempFile(file.getParent(), catalog.getCountryCode(), ".tmp");
+            mapper.writeValue(tempFile.toFile(), catalog);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Saved address catalog of {} to {}", catalog.getCountryCode(), file);
+        } catch (IOException ex) {
+            logger.warn("Failed to save address catalog {}: {}", file, ex.getMessage());
+        }
+    }
+
+    /**
+     * Downloads the full province, district and ward hierarchy of a country.
+     * Districts of all provinces, then wards of all districts, are fetched concurrently.
+     * Only provinces are downloaded for countries without districts and wards.
+     *
+     * @param credentials The seller's credentials.
+     * @param countryCode The country code.
+     * @return The downloaded catalog.
+     */
+    private static CatalogFile download(APISellerLogin.Credentials credentials, String countryCode) {
+        logger.info("Downloading address catalog of {}", countryCode);
+        List<APIGetProvinces.Province> provinces = new APIGetProvinces(credentials).getProvinces(countryCode);
+        if (!SUBDIVIDED_COUNTRIES.contains(countryCode)) {
+            List<ProvinceEntry> entries = provinces.stream()
+                    .map(province -> new ProvinceEntry(province, new ArrayList<>()))
+                    .toList();
+            return new CatalogFile(CATALOG_VERSION, System.currentTimeMillis(), countryCode, new ArrayList<>(entries));
+        }
+
+        APIGetDistricts apiGetDistricts = new APIGetDistricts(credentials);
+        APIGetWards apiGetWards = new APIGetWards(credentials);
+
+        ExecutorService executor = Executors.newFixedThreadPool(DOWNLOAD_THREADS);
+        try {
+            List<CompletableFuture<ProvinceEntry>> provinceFutures = provinces.stream()
+                    .map(province -> CompletableFuture
+                            .supplyAsync(() -> apiGetDistricts.getDistricts(province.getCode()), executor)
+                            .thenCompose(districts -> {
+                                List<CompletableFuture<DistrictEntry>> districtFutures = districts.stream()
+                                        .map(district -> CompletableFuture.supplyAsync(
+                                                () -> new DistrictEntry(district, apiGetWards.getWards(district.getCode())), executor))
+                                        .toList();
+                                return CompletableFuture.allOf(districtFutures.toArray(CompletableFuture[]::new))
+                                        .thenApply(_ -> new ProvinceEntry(province,
+                                                new ArrayList<>(districtFutures.stream().map(CompletableFuture::join).toList())));
+                            }))
+                    .toList();
+
+            List<ProvinceEntry> entries = provinceFutures.stream().map(CompletableFuture::join).toList();
+            return new CatalogFile(CATALOG_VERSION, System.currentTimeMillis(), countryCode, new ArrayList<>(entries));
+        } catch (CompletionException ex) {
+            // Surface the original failure instead of the wrapper
+            if (ex.getCause() instanceof RuntimeException cause) throw cause;
+            if (ex.getCause() instanceof Error error) throw error;
+            throw ex;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -8,7 +8,8 @@ import org.apache.logging.log4j.LogManager;
 import utility.APIUtils;
 import utility.PropertiesUtils;
 
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class handles the login functionality for the dashboard API.
@@ -16,8 +17,8 @@ import java.util.Objects;
  */
 public class APISellerLogin {
 
-    private static Credentials cachedCredentials;
-    private static LoginInformation cachedSellerInfo;
+    // Login information by credentials, shared by all threads
+    private static final Map<Credentials, LoginInformation> cachedSellerInfos = new ConcurrentHashMap<>();
 
     /**
      * Represents the credentials used for logging into the dashboard.
@@ -64,6 +65,7 @@ public class APISellerLogin {
     /**
      * Retrieves seller information based on the provided credentials.
      * If the same credentials are used, cached information is returned.
+     * Concurrent calls with the same credentials authenticate only once.
      *
      * @param credentials The {@link Credentials} used to authenticate the seller.
      * @return A {@link LoginInformation} object containing details about the authenticated seller.
@@ -74,26 +76,14 @@ public class APISellerLogin {
             throw new IllegalArgumentException("Credentials cannot be null.");
         }
 
-        // Check if cached credentials match and return cached information
-        if (Objects.equals(credentials, cachedCredentials) && cachedSellerInfo != null) {
-            return cachedSellerInfo;
-        }
-
-        synchronized (this) {
-            // Double-check in case another thread updated the cache
-            if (Objects.equals(credentials, cachedCredentials) && cachedSellerInfo != null) {
-                return cachedSellerInfo;
-            }
-
-            // Authenticate and update cache
-            cachedSellerInfo = authenticateSeller(credentials);
-            if (cachedSellerInfo == null) {
+        // Authenticate on first use and return cached information afterward
+        return cachedSellerInfos.computeIfAbsent(credentials, key -> {
+            LoginInformation sellerInfo = authenticateSeller(key);
+            if (sellerInfo == null) {
                 throw new RuntimeException("Authentication failed. Seller information is null.");
             }
-            cachedCredentials = credentials;
-        }
-
-        return cachedSellerInfo;
+            return sellerInfo;
+        });
     }
 
     /**
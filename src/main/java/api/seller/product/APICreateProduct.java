@@ -2,9 +2,8 @@ package api.seller.product;
 
 import api.seller.login.APISellerLogin;
 import api.seller.setting.APIGetBranchList;
-import api.seller.setting.APIGetStoreDefaultLanguage;
 import api.seller.setting.APIGetVATList;
-import api.seller.user_feature.APIGetUserFeature;
+import api.seller.setting.StoreContext;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -49,16 +48,17 @@ public class APICreateProduct {
     }
 
     /**
-     * Fetches necessary information from various APIs.
+     * Fetches necessary information from the shared {@link StoreContext}.
      * Initializes login information, VAT list, branch list, and language information.
      * Also sets up default language, VAT IDs, branch IDs, branch names, and branch types.
      */
     private void fetchInformation() {
         loginInfo = new APISellerLogin().getSellerInformation(credentials);
-        var vatInfoList = new APIGetVATList(credentials).getVATInformation();
-        var branchInfoList = new APIGetBranchList(credentials).getBranchInformation();
+        StoreContext storeContext = StoreContext.of(credentials);
+        var vatInfoList = storeContext.getVatInfos();
+        var branchInfoList = storeContext.getBranchInfos();
 
-        defaultLanguage = new APIGetStoreDefaultLanguage(credentials).getDefaultLanguage();
+        defaultLanguage = storeContext.getDefaultLanguage();
         vatIds = APIGetVATList.getVATIds(vatInfoList);
         branchIds = APIGetBranchList.getBranchIds(branchInfoList);
         branchNames = APIGetBranchList.getBranchNames(branchInfoList);
@@ -199,7 +199,7 @@ public class APICreateProduct {
 
         // Init platform information
         // Get all user packages
-        var userPackages = new APIGetUserFeature(this.credentials).getUserFeature();
+        var userPackages = StoreContext.of(this.credentials).getUserPackages();
 
         // Init platform information
         payload.setOnApp(hasGoAPP(userPackages));
@@ -0,0 +1,31 @@
+package api.seller.product;
+
+import api.seller.login.APISellerLogin;
+import utility.APIUtils;
+
+/**
+ * Class to handle deletion of products through the API.
+ */
+public class APIDeleteProduct {
+    private final APISellerLogin.LoginInformation loginInfo;
+
+    /**
+     * Constructor to initialize the API with seller credentials.
+     *
+     * @param credentials the seller's credentials.
+     */
+    public APIDeleteProduct(APISellerLogin.Credentials credentials) {
+        this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
+    }
+
+    /**
+     * Deletes the product with the specified ID.
+     *
+     * @param productId the ID of the product to be deleted.
+     * @throws RuntimeException if the deletion fails or does not return a success status code.
+     */
+    public void deleteProduct(int productId) {
+        String url = String.format("/itemservice/api/items/%d", productId);
+        new APIUtils().delete(url, loginInfo.getAccessToken()).then().statusCode(200);
+    }
+}
@@ -173,6 +173,15 @@ public class APIGetProductList {
         return products;
     }
 
+    /**
+     * Retrieves the total number of products in the store.
+     *
+     * @return The total number of products reported by the API.
+     */
+    public int getTotalOfProducts() {
+        return Integer.parseInt(getProductListResponse("", 0).getHeader("X-Total-Count"));
+    }
+
     public List<Product> getProductInformationInFirstPage(ProductFilterType filterType, String value) {
         String responseString = new APIUtils()
                 .get(getFilterPath(filterType, value), loginInfo.getAccessToken())
@@ -104,6 +104,9 @@ public class APIUpdateBranchInformation {
             String statusChangePath = String.format(CHANGE_BRANCH_STATUS_PATH, loginInfo.getStore().getId(), branchId, branchStatus);
             new APIUtils().put(statusChangePath, loginInfo.getAccessToken(), null);
             logger.info("[API] Updated branch '{}' status: {}", branchName, branchStatus); // Log the status change
+
+            // Branch settings changed, reload the shared store context on next access
+            StoreContext.invalidate(credentials);
         } else {
             logger.info("[{}] Branch information has not changed; skipping API update.", branchName);
         }
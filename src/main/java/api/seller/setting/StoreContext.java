@@ -0,0 +1,109 @@
+package api.seller.setting;
+
+import api.seller.login.APISellerLogin;
+import api.seller.user_feature.APIGetUserFeature;
+import lombok.Getter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Immutable snapshot of the store settings shared by page objects and API builders:
+ * branches, store languages, default language, user packages and VAT settings.
+ * <p>
+ * The snapshot is loaded with a single parallel fan-out of API calls and cached per credentials,
+ * so every page object and API builder using the same account shares one instance.
+ * Call {@link #refresh(APISellerLogin.Credentials)} after changing store settings,
+ * or {@link #invalidate(APISellerLogin.Credentials)} to reload lazily on the next access.
+ */
+@Getter
+public class StoreContext {
+    private static final Logger logger = LogManager.getLogger();
+    private static final Map<APISellerLogin.Credentials, StoreContext> cachedContexts = new ConcurrentHashMap<>();
+
+    private final List<APIGetBranchList.BranchInformation> branchInfos;
+    private final List<APIGetStoreLanguage.LanguageInformation> languageInfos;
+    private final String defaultLanguage;
+    private final List<APIGetUserFeature.UserPackage> userPackages;
+    private final List<APIGetVATList.VATInformation> vatInfos;
+
+    /**
+     * Constructs a StoreContext from already fetched store settings.
+     */
+    private StoreContext(List<APIGetBranchList.BranchInformation> branchInfos,
+                         List<APIGetStoreLanguage.LanguageInformation> languageInfos,
+                         String defaultLanguage,
+                         List<APIGetUserFeature.UserPackage> userPackages,
+                         List<APIGetVATList.VATInformation> vatInfos) {
+        this.branchInfos = List.copyOf(branchInfos);
+        this.languageInfos = List.copyOf(languageInfos);
+        this.defaultLanguage = defaultLanguage;
+        this.userPackages = List.copyOf(userPackages);
+        this.vatInfos = List.copyOf(vatInfos);
+    }
+
+    /**
+     * Retrieves the store context for the given credentials, loading it on first access.
+     *
+     * @param credentials The seller's credentials.
+     * @return The shared {@link StoreContext} for the credentials.
+     */
+    public static StoreContext of(APISellerLogin.Credentials credentials) {
+        return cachedContexts.computeIfAbsent(credentials, StoreContext::load);
+    }
+
+    /**
+     * Reloads the store context for the given credentials and replaces the cached instance.
+     *
+     * @param credentials The seller's credentials.
+     * @return The freshly loaded {@link StoreContext}.
+     */
+    public static StoreContext refresh(APISellerLogin.Credentials credentials) {
+        StoreContext context = load(credentials);
+        cachedContexts.put(credentials, context);
+        return context;
+    }
+
+    /**
+     * Drops the cached store context so the next {@link #of(APISellerLogin.Credentials)} call reloads it.
+     *
+     * @param credentials The seller's credentials.
+     */
+    public static void invalidate(APISellerLogin.Credentials credentials) {
+        cachedContexts.remove(credentials);
+    }
+
+    /**
+     * Loads all store settings in parallel.
+     * The login is resolved first so that every request reuses the cached access token.
+     *
+     * @param credentials The seller's credentials.
+     * @return A new {@link StoreContext}.
+     */
+    private static StoreContext load(APISellerLogin.Credentials credentials) {
+        logger.info("Fetching store context");
+        new APISellerLogin().getSellerInformation(credentials);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var branchInfos = CompletableFuture.supplyAsync(() -> new APIGetBranchList(credentials).getBranchInformation(), executor);
+            var languageInfos = CompletableFuture.supplyAsync(() -> new APIGetStoreLanguage(credentials).getStoreLanguageInformation(), executor);
+            var defaultLanguage = CompletableFuture.supplyAsync(() -> new APIGetStoreDefaultLanguage(credentials).getDefaultLanguage(), executor);
+            var userPackages = CompletableFuture.supplyAsync(() -> new APIGetUserFeature(credentials).getUserFeature(), executor);
+            var vatInfos = CompletableFuture.supplyAsync(() -> new APIGetVATList(credentials).getVATInformation(), executor);
+
+            return new StoreContext(branchInfos.join(), languageInfos.join(), defaultLanguage.join(), userPackages.join(), vatInfos.join());
+        } catch (CompletionException ex) {
+            // Surface the original failure instead of the wrapper
+            if (ex.getCause() instanceof RuntimeException cause) throw cause;
+            if (ex.getCause() instanceof Error error) throw error;
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package api.seller.supplier;
+
+import api.seller.login.APISellerLogin;
+import utility.APIUtils;
+
+/**
+ * Class to handle deletion of suppliers through the API.
+ */
+public class APIDeleteSupplier {
+    private final APISellerLogin.LoginInformation loginInfo;
+
+    /**
+     * Constructor to initialize the API with seller credentials.
+     *
+     * @param credentials the seller's credentials.
+     */
+    public APIDeleteSupplier(APISellerLogin.Credentials credentials) {
+        this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
+    }
+
+    /**
+     * Deletes the supplier with the specified ID.
+     *
+     * @param supplierId the ID of the supplier to be deleted.
+     * @throws RuntimeException if the deletion fails or does not return a success status code.
+     */
+    public void deleteSupplier(int supplierId) {
+        String url = String.format("/itemservice/api/suppliers/%d", supplierId);
+        new APIUtils().delete(url, loginInfo.getAccessToken()).then().statusCode(200);
+    }
+}
@@ -29,7 +29,7 @@ public class APIGetSupplierList {
      * @return The constructed API endpoint URL.
      */
     private String getListSupplierPath(String keyword, int pageIndex) {
-        return String.format("/itemservice/api/suppliers/store/%d?page=%d&size=20&sort=id,desc&itemNameOrCode=%s",
+        return String.format("/itemservice/api/suppliers/store/%d?page=%d&size=100&sort=id,desc&itemNameOrCode=%s",
                 loginInfo.getStore().getId(), pageIndex, keyword);
     }
 
@@ -48,6 +48,15 @@ public class APIGetSupplierList {
                 .response();
     }
 
+    /**
+     * Retrieves the total number of suppliers in the store.
+     *
+     * @return The total number of suppliers reported by the API.
+     */
+    public int getTotalOfSuppliers() {
+        return Integer.parseInt(getSupplierListResponse("", 0).getHeader("X-Total-Count"));
+    }
+
     /**
      * Retrieves a list of all suppliers matching the search keyword.
      *
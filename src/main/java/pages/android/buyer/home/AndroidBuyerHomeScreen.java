@@ -7,10 +7,15 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import utility.AndroidUtils;
+import utility.MobileNavigator;
+import utility.MobileNavigator.Screen;
 import utility.PropertiesUtils;
+import utility.helper.ActivityHelper;
 
 import java.time.Duration;
 
+import static utility.AndroidUtils.getLocatorByResourceId;
+
 public class AndroidBuyerHomeScreen {
     final static Logger logger = LogManager.getLogger(AndroidBuyerHomeScreen.class);
 
@@ -33,6 +38,7 @@ public class AndroidBuyerHomeScreen {
     }
 
     private final By loc_icnAccount = By.xpath("//*[contains(@resource-id, ':id/bottom_navigation_tab_me')]");
+    private final By loc_lblProductDetailTitle = getLocatorByResourceId("%s:id/item_market_product_detail_desc_title");
 
 
     private void searchProductByName(String productName) {
@@ -54,6 +60,15 @@ public class AndroidBuyerHomeScreen {
                 .map(APIGetProductDetail.ProductInformation.MainLanguage::getName)
                 .orElse("");
 
+        // Open the product detail screen directly when the app supports it
+        if (new MobileNavigator(driver).open(Screen.BUYER_PRODUCT_DETAIL, productInfo.getId(), loc_lblProductDetailTitle)) {
+            logger.info("Navigate to product detail screen directly, product name: {}", productName);
+            return;
+        }
+
+        // Relaunch app to load new product information
+        androidUtils.relaunchApp(ActivityHelper.buyerHomeActivity);
+
         searchProductByName(productName);
 
         androidUtils.click(loc_lblSearchResult(productName));
@@ -7,6 +7,7 @@ import api.seller.login.APISellerLogin;
 import api.seller.product.APIGetProductDetail;
 import api.seller.sale_channel.APIGetPreferences;
 import api.seller.setting.APIGetBranchList;
+import api.seller.setting.StoreContext;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
@@ -745,8 +746,6 @@ public class AndroidBuyerProductDetailScreen {
      * @return ProductDetailPage instance to allow method chaining
      */
     public AndroidBuyerProductDetailScreen navigateProductDetailPage(APISellerLogin.Credentials credentials, int productId) {
-        // Relaunch app to load new product information
-        androidUtils.relaunchApp();
         logger.info("Start the process of checking product information");
 
         // Store the credentials for API requests
@@ -755,8 +754,8 @@ public class AndroidBuyerProductDetailScreen {
         // Fetch product information using the product ID
         this.productInfo = new APIGetProductDetail(credentials).getProductInformation(productId);
 
-        // Get the latest branch information from the API
-        branchInfos = new APIGetBranchList(credentials).getBranchInformation();
+        // Get the branch information from the shared store context
+        branchInfos = StoreContext.of(credentials).getBranchInfos();
 
         boolean shouldAccessProductDetail = shouldAccessProductDetail(productInfo);
 
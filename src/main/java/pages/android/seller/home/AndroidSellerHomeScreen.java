@@ -4,17 +4,22 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import pages.android.seller.account.AndroidSellerAccountScreen;
 import utility.AndroidUtils;
+import utility.MobileNavigator;
+import utility.MobileNavigator.Screen;
 import utility.PropertiesUtils;
+import utility.helper.ActivityHelper;
 
 import static utility.AndroidUtils.*;
 
 public class AndroidSellerHomeScreen {
     private final AndroidUtils androidUtils;
+    private final MobileNavigator navigator;
     private final WebDriver driver;
     private final String langKey = PropertiesUtils.getLangKey();
     public AndroidSellerHomeScreen(WebDriver driver) {
         this.driver = driver;
         androidUtils = new AndroidUtils(driver);
+        navigator = new MobileNavigator(driver);
     }
 
     private final By loc_icnAccount = getLocatorByResourceId("%s:id/bottom_navigation_tab_account");
@@ -31,24 +36,33 @@ public class AndroidSellerHomeScreen {
     }
 
     public void navigateToCreateProductScreen() {
+        // Open the create product screen directly when the app supports it
+        if (navigator.open(Screen.SELLER_CREATE_PRODUCT, null)) return;
+
         // Relaunch app to access the Home screen
-        androidUtils.relaunchApp();
+        androidUtils.relaunchApp(ActivityHelper.sellerHomeActivity);
 
         // Navigate to create product screen
         androidUtils.click(loc_icnCreateProduct);
     }
 
     public void navigateToProductManagementScreen() {
+        // Open the product management screen directly when the app supports it
+        if (navigator.open(Screen.SELLER_PRODUCT_MANAGEMENT, null)) return;
+
         // Relaunch app to access the Home screen
-        androidUtils.relaunchApp();
+        androidUtils.relaunchApp(ActivityHelper.sellerHomeActivity);
 
         // Navigate to product management screen
         androidUtils.click(loc_icnProduct);
     }
 
     public void navigateToSupplierManagementScreen() {
+        // Open the supplier management screen directly when the app supports it
+        if (navigator.open(Screen.SELLER_SUPPLIER_MANAGEMENT, null)) return;
+
         // Relaunch app to access the Home screen
-        androidUtils.relaunchApp();
+        androidUtils.relaunchApp(ActivityHelper.sellerHomeActivity);
 
         // Navigate to supplier management screen
         androidUtils.click(loc_icnSupplier);
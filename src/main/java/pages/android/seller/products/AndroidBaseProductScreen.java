@@ -5,9 +5,8 @@ import api.seller.product.APIGetProductDetail;
 import api.seller.product.APIGetProductDetail.ProductInformation;
 import api.seller.product.APIGetProductList;
 import api.seller.setting.APIGetBranchList;
-import api.seller.setting.APIGetStoreDefaultLanguage;
 import api.seller.setting.APIGetVATList;
-import api.seller.user_feature.APIGetUserFeature;
+import api.seller.setting.StoreContext;
 import io.appium.java_client.android.AndroidDriver;
 import lombok.Setter;
 import org.apache.logging.log4j.LogManager;
@@ -19,11 +18,14 @@ import org.testng.Assert;
 import pages.android.seller.home.AndroidSellerHomeScreen;
 import pages.android.seller.login.AndroidSellerLoginScreen;
 import utility.AndroidUtils;
+import utility.MobileNavigator;
+import utility.MobileNavigator.Screen;
 import utility.WebUtils;
 import utility.helper.ActivityHelper;
 import utility.helper.ProductHelper;
 import utility.helper.VariationHelper;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -111,11 +113,14 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         // Get credentials
         this.credentials = AndroidSellerLoginScreen.getCredentials();
 
+        // Retrieve the shared store settings in one parallel batch
+        StoreContext storeContext = StoreContext.of(this.credentials);
+
         // Retrieve and store branch information
-        this.branchInfos = new APIGetBranchList(this.credentials).getBranchInformation();
+        this.branchInfos = storeContext.getBranchInfos();
 
         // Retrieve the default language of the seller
-        this.defaultLanguage = new APIGetStoreDefaultLanguage(this.credentials).getDefaultLanguage();
+        this.defaultLanguage = storeContext.getDefaultLanguage();
 
         // Get active branch names and IDs
         this.activeBranchIds = APIGetBranchList.getActiveBranchIds(this.branchInfos);
@@ -124,7 +129,7 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         this.allBranchesIds = APIGetBranchList.getBranchIds(this.branchInfos);
 
         // Get all user packages
-        this.userPackages = new APIGetUserFeature(this.credentials).getUserFeature();
+        this.userPackages = storeContext.getUserPackages();
 
         // Init platform information
         this.showOnApp = hasGoAPP(this.userPackages);
@@ -146,7 +151,7 @@ public class AndroidBaseProductScreen extends BaseProductElement {
      */
     private void fetchProductInformation(boolean isManagedByIMEI, boolean hasModel, int[] branchStock) {
         // Retrieve tax information (VAT details)
-        var vatInfos = new APIGetVATList(this.credentials).getVATInformation();
+        var vatInfos = StoreContext.of(this.credentials).getVatInfos();
         List<Integer> vatIds = APIGetVATList.getVATIds(vatInfos); // List of VAT IDs
         List<String> vatNames = APIGetVATList.getVATNames(vatInfos); // List of VAT names
 
@@ -214,10 +219,7 @@ public class AndroidBaseProductScreen extends BaseProductElement {
     }
 
     public AndroidBaseProductScreen navigateToCreateProductScreen() {
-        // Relaunch app
-        androidUtils.relaunchApp();
-
-        // Navigate to create product screen
+        // Navigate to create product screen, the home screen relaunches the app when it cannot open it directly
         new AndroidSellerHomeScreen(driver).navigateToCreateProductScreen();
 
         // Log
@@ -227,12 +229,15 @@ public class AndroidBaseProductScreen extends BaseProductElement {
     }
 
     public void navigateToProductDetailScreen(int productId) {
-        // Relaunch app
-        androidUtils.relaunchApp();
-
         // Get product information
         this.currentProductInfo = fetchProductInformation(productId);
 
+        // Open the product detail screen directly when the app supports it
+        if (new MobileNavigator(driver).open(Screen.SELLER_PRODUCT_DETAIL, productId, loc_txtProductName)) {
+            logger.info("Navigate to product detail screen directly, id: {}", productId);
+            return;
+        }
+
         // Get product name
         String productName = APIGetProductDetail.getMainProductName(currentProductInfo, defaultLanguage);
 
@@ -558,10 +563,9 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         logger.info("Waiting for product is created successfully");
 
         // If product are updated, check information after updating
-        // Get product ID
-        WebUtils.sleep(5000);
-        int productId = new APIGetProductList(this.credentials)
-                .searchProductIdByName(this.newProductInfo.getName());
+        // Get product ID as soon as the product is searchable
+        int productId = WebUtils.pollUntilAvailable(() -> new APIGetProductList(this.credentials)
+                .searchProductIdByName(this.newProductInfo.getName()), Duration.ofSeconds(30));
         this.newProductInfo.setId(productId);
 
         // Validate after create
@@ -14,6 +14,7 @@ import utility.PropertiesUtils;
 import utility.WebUtils;
 import utility.helper.SupplierHelper;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static utility.AndroidUtils.getLocatorById;
@@ -82,9 +83,6 @@ public class AndroidBaseSupplierScreen {
      * Navigates to the page where a new supplier can be created.
      */
     public void navigateToCreateSupplierPage() {
-        // Relaunch app
-        androidUtils.relaunchApp();
-
         // Navigate to product create supplier screen
         new AndroidSupplierManagementScreen(driver).navigateToSupplierManagementScreenByActivity()
                 .navigateToCreateSupplierScreen();
@@ -100,9 +98,6 @@ public class AndroidBaseSupplierScreen {
      * @param supplierId The unique identifier of the supplier whose details are to be viewed or edited.
      */
     public void navigateToSupplierDetailScreenByItsId(int supplierId) {
-        // Relaunch app
-        androidUtils.relaunchApp();
-
         // Get product information
         var supplierInfo = fetchSupplierInformation(supplierId);
 
@@ -317,9 +312,9 @@ public class AndroidBaseSupplierScreen {
         // If it's an update, no need to fetch the supplier ID again.
         if (supplierInfo.getId() != null) return;
 
-        // Wait for the API response to retrieve the new supplier's ID
-        WebUtils.sleep(3000);
-        int supplierId = new APIGetSupplierList(credentials).searchSupplierIdByName(supplierInfo.getName());
+        // Retrieve the new supplier's ID as soon as the API returns it
+        int supplierId = WebUtils.pollUntilAvailable(() -> new APIGetSupplierList(credentials)
+                .searchSupplierIdByName(supplierInfo.getName()), Duration.ofSeconds(30));
 
         // Log the creation of the new supplier
         logger.info("Completed creation of supplier, ID: {}", supplierId);
@@ -7,6 +7,8 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import utility.IOSUtils;
+import utility.MobileNavigator;
+import utility.MobileNavigator.Screen;
 import utility.PropertiesUtils;
 
 import java.time.Duration;
@@ -31,6 +33,9 @@ public class IOSBuyerHomeScreen {
         return By.xpath("//XCUIElementTypeStaticText[@name=\"%s\"]".formatted(productName));
     }
 
+    // Only displayed on the product detail screen, whether the product is in stock or sold out
+    private final By loc_lblProductDetailMarker = By.xpath("//XCUIElementTypeButton[@name=\"Mua ngay\" or @name=\"Buy now\"] | //XCUIElementTypeStaticText[@name=\"Hết Hàng\"]");
+
     private final By loc_icnAccount = By.xpath("//XCUIElementTypeButton[@name=\"accountTabBarItem\"]");
 
 
@@ -53,6 +58,15 @@ public class IOSBuyerHomeScreen {
                 .map(APIGetProductDetail.ProductInformation.MainLanguage::getName)
                 .orElse("");
 
+        // Open the product detail screen directly when the app supports it
+        if (new MobileNavigator(driver).open(Screen.BUYER_PRODUCT_DETAIL, productInfo.getId(), loc_lblProductDetailMarker)) {
+            logger.info("Navigate to product detail screen directly, product name: {}", productName);
+            return;
+        }
+
+        // Relaunch app to load new product information
+        iosUtils.relaunchApp();
+
         searchProductByName(productName);
 
         iosUtils.click(loc_lblSearchResult(productName));
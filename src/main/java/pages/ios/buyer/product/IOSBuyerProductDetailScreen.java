@@ -6,7 +6,7 @@ import api.buyer.product.APIGetWholesaleInformation;
 import api.seller.login.APISellerLogin;
 import api.seller.product.APIGetProductDetail;
 import api.seller.sale_channel.APIGetPreferences;
-import api.seller.setting.APIGetBranchList;
+import api.seller.setting.StoreContext;
 import io.appium.java_client.AppiumBy;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -723,8 +723,6 @@ public class IOSBuyerProductDetailScreen {
      * @return ProductDetailPage instance to allow method chaining
      */
     public IOSBuyerProductDetailScreen navigateProductDetailPage(APISellerLogin.Credentials credentials, int productId) {
-        // Relaunch app to load new product information
-        iosUtils.relaunchApp();
         logger.info("Start the process of checking product information");
 
         // Store the credentials for API requests
@@ -733,8 +731,8 @@ public class IOSBuyerProductDetailScreen {
         // Fetch product information using the product ID
         this.productInfo = new APIGetProductDetail(credentials).getProductInformation(productId);
 
-        // Get the latest branch information from the API
-        branchInfos = new APIGetBranchList(credentials).getBranchInformation();
+        // Get the branch information from the shared store context
+        branchInfos = StoreContext.of(credentials).getBranchInfos();
 
         boolean shouldAccessProductDetail = shouldAccessProductDetail(productInfo);
 
@@ -5,9 +5,8 @@ import api.seller.product.APIGetProductDetail;
 import api.seller.product.APIGetProductDetail.ProductInformation;
 import api.seller.product.APIGetProductList;
 import api.seller.setting.APIGetBranchList;
-import api.seller.setting.APIGetStoreDefaultLanguage;
 import api.seller.setting.APIGetVATList;
-import api.seller.user_feature.APIGetUserFeature;
+import api.seller.setting.StoreContext;
 import io.appium.java_client.AppiumBy;
 import lombok.Setter;
 import org.apache.logging.log4j.LogManager;
@@ -18,6 +17,8 @@ import org.testng.Assert;
 import pages.ios.seller.home.HomeScreen;
 import pages.ios.seller.login.LoginScreen;
 import utility.IOSUtils;
+import utility.MobileNavigator;
+import utility.MobileNavigator.Screen;
 import utility.WebUtils;
 import utility.helper.ProductHelper;
 import utility.helper.VariationHelper;
@@ -104,11 +105,14 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         // Get credentials
         this.credentials = LoginScreen.getCredentials();
 
+        // Retrieve the shared store settings in one parallel batch
+        StoreContext storeContext = StoreContext.of(this.credentials);
+
         // Retrieve and store branch information
-        this.branchInfos = new APIGetBranchList(this.credentials).getBranchInformation();
+        this.branchInfos = storeContext.getBranchInfos();
 
         // Retrieve the default language of the seller
-        this.defaultLanguage = new APIGetStoreDefaultLanguage(this.credentials).getDefaultLanguage();
+        this.defaultLanguage = storeContext.getDefaultLanguage();
 
         // Get active branch names and IDs
         this.activeBranchIds = APIGetBranchList.getActiveBranchIds(this.branchInfos);
@@ -117,7 +121,7 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         this.allBranchesIds = APIGetBranchList.getBranchIds(this.branchInfos);
 
         // Get all user packages
-        this.userPackages = new APIGetUserFeature(this.credentials).getUserFeature();
+        this.userPackages = storeContext.getUserPackages();
 
         // Init platform information
         this.showOnApp = hasGoAPP(this.userPackages);
@@ -139,7 +143,7 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
      */
     private void fetchProductInformation(boolean isManagedByIMEI, boolean hasModel, int[] branchStock) {
         // Retrieve tax information (VAT details)
-        var vatInfos = new APIGetVATList(this.credentials).getVATInformation();
+        var vatInfos = StoreContext.of(this.credentials).getVatInfos();
         List<Integer> vatIds = APIGetVATList.getVATIds(vatInfos); // List of VAT IDs
         List<String> vatNames = APIGetVATList.getVATNames(vatInfos); // List of VAT names
 
@@ -207,6 +211,9 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
     }
 
     public IOSBaseProductScreen navigateToCreateProductScreen() {
+        // Open the create product screen directly when the app supports it
+        if (new MobileNavigator(driver).open(Screen.SELLER_CREATE_PRODUCT, loc_txtProductName)) return this;
+
         // Relaunch app
         iosUtils.relaunchApp();
 
@@ -220,6 +227,12 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         // Get product information
         this.currentProductInfo = fetchProductInformation(productId);
 
+        // Open the product detail screen directly when the app supports it
+        if (new MobileNavigator(driver).open(Screen.SELLER_PRODUCT_DETAIL, productId, loc_txtProductName)) {
+            logger.info("Navigate to product detail screen directly, id: {}", productId);
+            return;
+        }
+
         // Get product name
         String productName = currentProductInfo.getName();
 
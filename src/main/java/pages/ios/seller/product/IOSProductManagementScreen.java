@@ -14,6 +14,8 @@ import org.testng.Assert;
 import pages.ios.seller.home.HomeScreen;
 import pages.ios.seller.login.LoginScreen;
 import utility.IOSUtils;
+import utility.MobileNavigator;
+import utility.MobileNavigator.Screen;
 
 import java.util.List;
 
@@ -50,6 +52,9 @@ public class IOSProductManagementScreen {
     private final By loc_btnFilter = By.xpath("(//XCUIElementTypeButton[@name=\"icon sort priority\"]/parent::*/following-sibling::*//XCUIElementTypeButton)[1]");
 
     public IOSProductManagementScreen navigateToProductManagementScreen() {
+        // Open the product management screen directly when the app supports it
+        if (new MobileNavigator(driver).open(Screen.SELLER_PRODUCT_MANAGEMENT, loc_txtSearchBox)) return this;
+
         // Relaunch app
         iosUtils.relaunchApp();
 
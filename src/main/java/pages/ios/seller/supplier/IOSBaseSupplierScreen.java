@@ -15,6 +15,7 @@ import utility.PropertiesUtils;
 import utility.WebUtils;
 import utility.helper.SupplierHelper;
 
+import java.time.Duration;
 import java.util.Optional;
 
 
@@ -274,9 +275,9 @@ public class IOSBaseSupplierScreen {
         // If it's an update, no need to fetch the supplier ID again.
         if (supplierInfo.getId() != null) return;
 
-        // Wait for the API response to retrieve the new supplier's ID
-        WebUtils.sleep(3000);
-        int supplierId = new APIGetSupplierList(credentials).searchSupplierIdByName(supplierInfo.getName());
+        // Retrieve the new supplier's ID as soon as the API returns it
+        int supplierId = WebUtils.pollUntilAvailable(() -> new APIGetSupplierList(credentials)
+                .searchSupplierIdByName(supplierInfo.getName()), Duration.ofSeconds(30));
 
         // Log the creation of the new supplier
         logger.info("Completed creation of supplier, ID: {}", supplierId);
@@ -4,6 +4,8 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import pages.ios.seller.home.HomeScreen;
 import utility.IOSUtils;
+import utility.MobileNavigator;
+import utility.MobileNavigator.Screen;
 
 public class IOSSupplierManagementScreen {
     private final WebDriver driver;
@@ -22,6 +24,9 @@ public class IOSSupplierManagementScreen {
     }
 
     public IOSSupplierManagementScreen navigateToSupplierManagementScreen() {
+        // Open the supplier management screen directly when the app supports it
+        if (new MobileNavigator(driver).open(Screen.SELLER_SUPPLIER_MANAGEMENT, loc_txtSearchBox)) return this;
+
         // Relaunch app
         iosUtils.relaunchApp();
 
@@ -11,20 +11,25 @@ import api.seller.login.APISellerLogin;
 import api.seller.product.APIGetProductDetail;
 import api.seller.product.APIGetProductDetail.ProductInformation;
 import api.seller.sale_channel.APIGetPreferences;
-import api.seller.setting.APIGetBranchList;
+import api.seller.setting.StoreContext;
+import com.aventstack.extentreports.ExtentTest;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 import org.testng.Assert;
+import utility.BrowserContextFanOut;
+import utility.PageSnapshot;
 import utility.PropertiesUtils;
+import utility.TestContext;
 import utility.WebUtils;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static api.seller.setting.APIGetBranchList.*;
@@ -54,6 +59,12 @@ public class ProductDetailPage {
     // Credentials used for API authentication
     private APISellerLogin.Credentials credentials;
 
+    // Whether read-only checks run against a page snapshot instead of WebDriver reads
+    private final boolean snapshotMode = PropertiesUtils.getVerificationMode().equals("snapshot");
+
+    // Snapshot of the current page state, discarded after each interaction
+    private PageSnapshot snapshot;
+
     /**
      * Constructor for ProductDetailPage.
      * Initializes the WebDriver instance and common utilities required for page interactions.
@@ -107,6 +118,44 @@ public class ProductDetailPage {
     private final By loc_seoKeyword = By.cssSelector("meta[name='keywords']");
     private final By loc_seoURL = By.cssSelector("meta[name='og:url']");
 
+    // Read helpers
+
+    /**
+     * Retrieves the snapshot of the current page state, capturing it once the page has settled.
+     *
+     * @return The page snapshot.
+     */
+    private PageSnapshot snapshot() {
+        if (snapshot == null) {
+            webUtils.waitForPageSettled();
+            snapshot = PageSnapshot.capture(driver);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Discards the page snapshot after an interaction that changes the page.
+     */
+    private void invalidateSnapshot() {
+        snapshot = null;
+    }
+
+    private String readText(By locator) {
+        return snapshotMode ? snapshot().getText(locator) : webUtils.getText(locator);
+    }
+
+    private List<String> readTexts(By locator) {
+        return snapshotMode ? snapshot().getTexts(locator) : webUtils.getTexts(locator);
+    }
+
+    private String readAttribute(By locator, String attribute) {
+        return snapshotMode ? snapshot().getAttribute(locator, attribute) : webUtils.getAttribute(locator, attribute);
+    }
+
+    private boolean isDisplayed(By locator) {
+        return snapshotMode ? snapshot().isPresent(locator) : !webUtils.getListElement(locator).isEmpty();
+    }
+
     /**
      * Validates SEO metadata against the product information for the specified language.
      *
@@ -122,7 +171,7 @@ public class ProductDetailPage {
 
         // Validate SEO title
         if (mainLanguage != null && mainLanguage.getSeoTitle() != null) {
-            String actualSeoTitle = webUtils.getAttribute(loc_seoTitle, "content");
+            String actualSeoTitle = readAttribute(loc_seoTitle, "content");
             String expectedSeoTitle = mainLanguage.getSeoTitle();
             Assert.assertEquals(actualSeoTitle, expectedSeoTitle, "SEO title should be '%s', but found '%s'.".formatted(expectedSeoTitle, actualSeoTitle));
             logger.info("[{}] Checked SEO title", language);
@@ -130,7 +179,7 @@ public class ProductDetailPage {
 
         // Validate SEO description
         if (mainLanguage != null && mainLanguage.getSeoDescription() != null) {
-            String actualSeoDescription = webUtils.getAttribute(loc_seoDescription, "content");
+            String actualSeoDescription = readAttribute(loc_seoDescription, "content");
             String expectedSeoDescription = mainLanguage.getSeoDescription();
             Assert.assertEquals(actualSeoDescription, expectedSeoDescription, "SEO description should be '%s', but found '%s'.".formatted(expectedSeoDescription, actualSeoDescription));
             logger.info("[{}] Checked SEO description", language);
@@ -138,7 +187,7 @@ public class ProductDetailPage {
 
         // Validate SEO keywords
         if (mainLanguage != null && mainLanguage.getSeoKeywords() != null) {
-            String actualSeoKeywords = webUtils.getAttribute(loc_seoKeyword, "content");
+            String actualSeoKeywords = readAttribute(loc_seoKeyword, "content");
             String expectedSeoKeywords = mainLanguage.getSeoKeywords();
             Assert.assertEquals(actualSeoKeywords, expectedSeoKeywords, "SEO keywords should be '%s', but found '%s'.".formatted(expectedSeoKeywords, actualSeoKeywords));
             logger.info("[{}] Checked SEO keywords", language);
@@ -146,7 +195,7 @@ public class ProductDetailPage {
 
         // Validate SEO URL
         if (mainLanguage != null && mainLanguage.getSeoUrl() != null) {
-            String actualSeoUrl = webUtils.getAttribute(loc_seoURL, "content");
+            String actualSeoUrl = readAttribute(loc_seoURL, "content");
             String expectedSeoUrl = mainLanguage.getSeoUrl();
             Assert.assertTrue(actualSeoUrl.contains(expectedSeoUrl), "SEO URL should contain '%s', but found '%s'.".formatted(expectedSeoUrl, actualSeoUrl));
             logger.info("[{}] Checked SEO URL", language);
@@ -166,7 +215,7 @@ public class ProductDetailPage {
                 : APIGetProductDetail.getMainProductName(productInfo, language);
 
         // Retrieve the product name from the storefront
-        String actualProductName = webUtils.getText(loc_lblProductName);
+        String actualProductName = readText(loc_lblProductName);
 
         // Validate product name
         Assert.assertEquals(expectedProductName, actualProductName, "Product name should be '%s', but found '%s'.".formatted(expectedProductName, actualProductName));
@@ -185,13 +234,13 @@ public class ProductDetailPage {
 
         if (!(new APIGetPreferences(credentials).getStoreListingWebInformation().isEnabledProduct() && productInfo.isEnabledListing())) {
             if (expectedListingPrice != expectedSellingPrice) {
-                long actualListingPrice = Long.parseLong(webUtils.getText(loc_lblListingPrice).replaceAll("\\D+", ""));
+                long actualListingPrice = Long.parseLong(readText(loc_lblListingPrice).replaceAll("\\D+", ""));
                 Assert.assertEquals(actualListingPrice, expectedListingPrice, "%s Listing price should be %,d, but found %,d.".formatted(branchInfo, expectedListingPrice, actualListingPrice));
             } else {
                 logger.info("No discount product (listing price = selling price)");
             }
 
-            long actualSellingPrice = Long.parseLong(webUtils.getText(loc_lblSellingPrice).replaceAll("\\D+", ""));
+            long actualSellingPrice = Long.parseLong(readText(loc_lblSellingPrice).replaceAll("\\D+", ""));
             Assert.assertTrue(Math.abs(actualSellingPrice - expectedSellingPrice) <= 1, "%s Selling price should be %,d, but found %,d.".formatted(branchInfo, expectedSellingPrice, actualSellingPrice));
             logger.info("{} Checked product prices and store currency.", branchInfo);
         } else {
@@ -202,7 +251,7 @@ public class ProductDetailPage {
     // Check if the flash sale badge is displayed
     private void validateFlashSaleDisplay(String branchName) {
         String branchInfo = "[Branch name: %s]".formatted(branchName);
-        Assert.assertFalse(webUtils.getListElement(loc_lblFlashSale).isEmpty(), "%s Flash sale badge is not displayed.".formatted(branchInfo));
+        Assert.assertTrue(isDisplayed(loc_lblFlashSale), "%s Flash sale badge is not displayed.".formatted(branchInfo));
         logger.info("{} Checked flash sale badge display.", branchInfo);
     }
 
@@ -210,10 +259,11 @@ public class ProductDetailPage {
     private void validateDiscountCampaignDisplay(String branchName) {
         String branchInfo = "[Branch name: %s]".formatted(branchName);
 
-        if (!webUtils.getListElement(loc_chkBuyInBulk).isEmpty()) {
+        if (isDisplayed(loc_chkBuyInBulk)) {
             // Check if the buy in bulk checkbox is unchecked and click if so
-            if (webUtils.getAttribute(loc_chkBuyInBulk, "class").contains("unchecked")) {
+            if (readAttribute(loc_chkBuyInBulk, "class").contains("unchecked")) {
                 webUtils.clickJS(loc_chkBuyInBulk);
+                invalidateSnapshot();
             }
 
             // Wait for the page to load
@@ -227,14 +277,14 @@ public class ProductDetailPage {
             }
         }
 
-        Assert.assertFalse(webUtils.getListElement(loc_chkBuyInBulk).isEmpty(), "%s Discount campaign is not displayed.".formatted(branchInfo));
+        Assert.assertTrue(isDisplayed(loc_chkBuyInBulk), "%s Discount campaign is not displayed.".formatted(branchInfo));
         logger.info("{} Checked discount campaign display.", branchInfo);
     }
 
     // Check if wholesale product pricing is displayed
     private void validateWholesalePricingDisplay(String branchName) {
         String branchInfo = "[Branch name: %s]".formatted(branchName);
-        Assert.assertFalse(webUtils.getListElement(loc_pnlWholesalePricing).isEmpty(), "%s Wholesale product information is not displayed.".formatted(branchInfo));
+        Assert.assertTrue(isDisplayed(loc_pnlWholesalePricing), "%s Wholesale product information is not displayed.".formatted(branchInfo));
         logger.info("{} Checked wholesale product information display.", branchInfo);
     }
 
@@ -246,18 +296,19 @@ public class ProductDetailPage {
             // If the product has more than 3 attributes, click to view more
             if (Collections.frequency(displayAttributes, true) > 3) {
                 webUtils.clickJS(loc_btnViewMore);
+                invalidateSnapshot();
             }
 
             // Validate each attribute
             for (int attributeIndex = 0; attributeIndex < attributeGroups.size(); attributeIndex++) {
                 if (displayAttributes.get(attributeIndex)) {
                     // Validate attribute name
-                    String actualAttributeName = webUtils.getText(loc_cntAttributeGroup);
+                    String actualAttributeName = readText(loc_cntAttributeGroup);
                     Assert.assertEquals(actualAttributeName, attributeGroups.get(attributeIndex),
                             "Attribute name must be '%s', but found '%s'.".formatted(attributeGroups.get(attributeIndex), actualAttributeName));
 
                     // Validate attribute value
-                    String actualAttributeValue = webUtils.getText(loc_cntAttributeValue);
+                    String actualAttributeValue = readText(loc_cntAttributeValue);
                     Assert.assertEquals(actualAttributeValue, attributeValues.get(attributeIndex),
                             "Attribute value must be '%s', but found '%s'.".formatted(attributeValues.get(attributeIndex), actualAttributeValue));
                 }
@@ -276,8 +327,7 @@ public class ProductDetailPage {
     private void validateVariationNames(String language) {
         // Retrieve the variation name list from the dashboard
         List<String> expectedVariationNames = Arrays.stream(APIGetProductDetail.getVariationName(productInfo, language).split("\\|")).toList();
-        List<WebElement> variationElements = webUtils.getListElement(loc_lblVariationName);
-        List<String> actualVariationNames = variationElements.stream().map(WebElement::getText).toList();
+        List<String> actualVariationNames = readTexts(loc_lblVariationName);
 
         Assert.assertEquals(expectedVariationNames.size(), actualVariationNames.size(),
                 "Variation name count does not match. Expected: %d, Found: %d.".formatted(expectedVariationNames.size(), actualVariationNames.size()));
@@ -305,13 +355,13 @@ public class ProductDetailPage {
         String visibilityCheck = shouldBeVisible ? "shown" : "hidden";
 
         // Assert filter branch visibility
-        boolean isFilterVisible = !webUtils.getListElement(loc_icnFilterBranch).isEmpty();
+        boolean isFilterVisible = isDisplayed(loc_icnFilterBranch);
         Assert.assertEquals(isFilterVisible, shouldBeVisible,
                 "%s 'Filter dropdown' should be %s but it is %s.".formatted(varName, visibilityCheck, isFilterVisible ? "shown" : "hidden"));
         logger.info("{} Checking if 'Filter dropdown' is {}.", varName, visibilityCheck);
 
         // Assert search branch visibility
-        boolean isSearchVisible = !webUtils.getListElement(loc_icnSearchBranch).isEmpty();
+        boolean isSearchVisible = isDisplayed(loc_icnSearchBranch);
         Assert.assertEquals(isSearchVisible, shouldBeVisible,
                 "%s 'Search box' should be %s but it is %s.".formatted(varName, visibilityCheck, isSearchVisible ? "shown" : "hidden"));
         logger.info("{} Checking if 'Search box' is {}.", varName, visibilityCheck);
@@ -346,7 +396,7 @@ public class ProductDetailPage {
     private void validateBranchStock(String branchName, boolean isVisible, int expectedStock, String variationName) {
         String varName = !variationName.isEmpty() ? "[Variation: %s]".formatted(variationName) : "";
         if (!productInfo.getIsHideStock() && isVisible) {
-            String actualStockText = webUtils.getText(loc_lblBranchStock);
+            String actualStockText = readText(loc_lblBranchStock);
             int actualStock = Integer.parseInt(actualStockText.replaceAll("\\D+", ""));
 
             // Assert stock quantities match
@@ -371,7 +421,7 @@ public class ProductDetailPage {
         dbDescription = dbDescription.replaceAll("<.*?>", "").replaceAll("amp;", "");
 
         // Retrieve storefront product description
-        String sfDescription = webUtils.getText(loc_pnlDescription).replaceAll("\n", "");
+        String sfDescription = readText(loc_pnlDescription).replaceAll("\n", "");
 
         // Assert descriptions match
         Assert.assertEquals(dbDescription, sfDescription,
@@ -394,13 +444,13 @@ public class ProductDetailPage {
         // If the product or store listing is not enabled, check for button visibility
         if (!(new APIGetPreferences(credentials).getStoreListingWebInformation().isEnabledProduct() && productInfo.isEnabledListing())) {
             // Assert 'Buy Now' button visibility
-            boolean isBuyNowVisible = !webUtils.getListElement(loc_btnBuyNow).isEmpty();
+            boolean isBuyNowVisible = isDisplayed(loc_btnBuyNow);
             Assert.assertEquals(isBuyNowVisible, shouldBeVisible,
                     "%s 'Buy now' button should be %s but it is %s.".formatted(varName, visibilityCheck, isBuyNowVisible ? "shown" : "hidden"));
             logger.info("{} Checking if 'Buy Now' button is {}.", varName, visibilityCheck);
 
             // Assert 'Add to Cart' button visibility
-            boolean isAddToCartVisible = !webUtils.getListElement(loc_btnAddToCart).isEmpty();
+            boolean isAddToCartVisible = isDisplayed(loc_btnAddToCart);
             Assert.assertEquals(isAddToCartVisible, shouldBeVisible,
                     "%s 'Add to cart' button should be %s but it is %s.".formatted(varName, visibilityCheck, isAddToCartVisible ? "shown" : "hidden"));
             logger.info("{} Checking if 'Add to Cart' button is {}.", varName, visibilityCheck);
@@ -414,7 +464,8 @@ public class ProductDetailPage {
      */
     private void verifySoldOutMarkDisplayed(String variationName) {
         String varName = !variationName.isEmpty() ? "[Variation: %s]".formatted(variationName) : "";
-        boolean isSoldOut = webUtils.getText(loc_lblSoldOut).equals("Hết hàng") || webUtils.getText(loc_lblSoldOut).equals("Out of stock");
+        String soldOutText = readText(loc_lblSoldOut);
+        boolean isSoldOut = soldOutText.equals("Hết hàng") || soldOutText.equals("Out of stock");
 
         // Assert sold out mark is visible
         Assert.assertTrue(isSoldOut, "%s Sold out mark does not show".formatted(varName));
@@ -588,6 +639,7 @@ public class ProductDetailPage {
         int minQuantity = wholesaleInfo.getMinQuatity();
         setQuantityWithRetries(minQuantity);
         waitForPageLoad();
+        invalidateSnapshot();
     }
 
     /**
@@ -725,7 +777,8 @@ public class ProductDetailPage {
      */
     private String switchBranchAndGetBranchName(int brElementIndex) {
         webUtils.clickJS(loc_lblBranchName, brElementIndex);
-        return webUtils.getText(loc_lblBranchName);
+        invalidateSnapshot();
+        return readText(loc_lblBranchName);
     }
 
     /**
@@ -816,16 +869,32 @@ public class ProductDetailPage {
      * @param customerId the ID of the customer
      */
     private void validateAllVariationsInformation(String language, int customerId) {
+        validateVariationsInformation(language, customerId, getVariationIndexes());
+    }
+
+    /**
+     * Retrieves the indexes of the variations to verify, a single index 0 if the product has no variations.
+     *
+     * @return the variation indexes
+     */
+    private List<Integer> getVariationIndexes() {
         // Retrieve the list of model IDs for the variations, or null if the product has no variations
         List<Integer> modelIds = productInfo.isHasModel()
                 ? APIGetProductDetail.getVariationModelList(productInfo)
                 : Collections.singletonList(null);
+        return IntStream.range(0, modelIds.size()).boxed().toList();
+    }
 
-        // Iterate through all model IDs (or a single null value if no variations exist)
-        for (Integer modelId : modelIds) {
-            // Get the index of the current variation model
-            int variationIndex = modelIds.indexOf(modelId);
-
+    /**
+     * Validates the information of the given product variations, one after another in the current tab.
+     *
+     * @param language         the language for the product details
+     * @param customerId       the ID of the customer
+     * @param variationIndexes the indexes of the variations to validate
+     */
+    private void validateVariationsInformation(String language, int customerId, List<Integer> variationIndexes) {
+        // Iterate through the variations (or a single index 0 if no variations exist)
+        for (int variationIndex : variationIndexes) {
             // Check if the product or variation is in 'ACTIVE' status
             if ((productInfo.isHasModel() && APIGetProductDetail.getVariationStatus(productInfo, variationIndex).equals("ACTIVE"))
                 || productInfo.getBhStatus().equals("ACTIVE")) {
@@ -847,6 +916,7 @@ public class ProductDetailPage {
 
                     // Wait for the page to load after selecting the variation
                     waitForPageLoad();
+                    invalidateSnapshot();
                 }
 
                 // Validate the variation's information
@@ -855,6 +925,7 @@ public class ProductDetailPage {
 
             // Refresh the page before moving to the next variation
             driver.navigate().refresh();
+            invalidateSnapshot();
         }
     }
 
@@ -899,8 +970,8 @@ public class ProductDetailPage {
         // Fetch product information using the product ID
         this.productInfo = new APIGetProductDetail(credentials).getProductInformation(productId);
 
-        // Get the latest branch information from the API
-        branchInfos = new APIGetBranchList(credentials).getBranchInformation();
+        // Get the branch information from the shared store context
+        branchInfos = StoreContext.of(credentials).getBranchInfos();
 
         // Navigate to the product detail page using the constructed URL
         driver.get("%s/product/%d".formatted(PropertiesUtils.getStoreURL(), productInfo.getId()));
@@ -913,7 +984,9 @@ public class ProductDetailPage {
 
         logger.info("Navigate to Product detail page by URL, id: {}", productId);
 
-        WebUtils.sleep(1000);
+        // Wait for the product detail to be rendered
+        webUtils.waitForPageSettled();
+        invalidateSnapshot();
 
         // Return the current instance of ProductDetailPage for method chaining
         return this;
@@ -925,11 +998,14 @@ public class ProductDetailPage {
     public void verifyProductInformation(int customerId) {
         boolean isProductInStock = APIGetProductDetail.isProductInStock(productInfo);
 
+        long start = System.currentTimeMillis();
         if (shouldAccessProductDetail(productInfo, isProductInStock)) {
             verifyProductDetailsOnPage(langKey, customerId);
         } else {
             verify404PageDisplayed();
         }
+        logger.info("Verified product information in {} ms ({} mode).",
+                System.currentTimeMillis() - start, snapshotMode ? "snapshot" : "webdriver");
     }
 
     /**
@@ -937,7 +1013,65 @@ public class ProductDetailPage {
      */
     private void verifyProductDetailsOnPage(String languageCode, int customerId) {
         validateSeoMetadata(languageCode);
-        validateAllVariationsInformation(languageCode, customerId);
+
+        int contexts = Math.min(PropertiesUtils.getStorefrontVerificationContexts(), getVariationIndexes().size());
+        if (contexts > 1 && BrowserContextFanOut.isSupported(driver)) {
+            validateVariationsInParallel(languageCode, customerId, contexts);
+        } else {
+            validateAllVariationsInformation(languageCode, customerId);
+        }
+    }
+
+    /**
+     * Validates the product variations concurrently in isolated browser contexts and reports all results in one entry.
+     *
+     * @param language   the language for the product details
+     * @param customerId the ID of the customer
+     * @param contexts   the number of browser contexts to use
+     * @throws AssertionError if the verification of any variation failed
+     */
+    private void validateVariationsInParallel(String language, int customerId, int contexts) {
+        List<BrowserContextFanOut.Outcome<Integer>> outcomes;
+        try (BrowserContextFanOut fanOut = BrowserContextFanOut.open(driver, contexts)) {
+            outcomes = fanOut.run(getVariationIndexes(),
+                    (contextDriver, variationIndexes) -> forkTo(contextDriver)
+                            .validateVariationsInformation(language, customerId, variationIndexes));
+        }
+
+        // Merge the results of all contexts into one report entry
+        String summary = outcomes.stream().map(Object::toString).collect(Collectors.joining("\n"));
+        logger.info("Verified variations in {} browser contexts:\n{}", contexts, summary);
+        ExtentTest test = TestContext.getCurrentTest();
+        if (test != null) test.info("Variation verification by browser context:<br>" + summary.replace("\n", "<br>"));
+
+        List<Throwable> errors = outcomes.stream()
+                .map(BrowserContextFanOut.Outcome::error)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!errors.isEmpty()) {
+            AssertionError failure = new AssertionError("%d of %d browser contexts failed:\n%s".formatted(
+                    errors.size(), outcomes.size(), summary));
+            errors.forEach(failure::addSuppressed);
+            throw failure;
+        }
+    }
+
+    /**
+     * Creates a page object for another browser context, sharing the product data of this page, and opens the product.
+     *
+     * @param contextDriver the driver of the browser context
+     * @return the page object of the browser context
+     */
+    private ProductDetailPage forkTo(WebDriver contextDriver) {
+        ProductDetailPage page = new ProductDetailPage(contextDriver);
+        page.credentials = credentials;
+        page.productInfo = productInfo;
+        page.branchInfos = branchInfos;
+        page.langKey = langKey;
+
+        contextDriver.get("%s/product/%d".formatted(PropertiesUtils.getStoreURL(), productInfo.getId()));
+        page.webUtils.waitForPageSettled();
+        return page;
     }
 
     /**
@@ -4,10 +4,12 @@ import api.buyer.login.APIBuyerLogin;
 import api.seller.login.APISellerLogin;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import utility.BrowserSession;
 import utility.PropertiesUtils;
 
+import java.util.Map;
+
 public class StorefrontLoginPage {
 
     private static final Logger logger = LogManager.getLogger();
@@ -19,29 +21,42 @@ public class StorefrontLoginPage {
 
     /**
      * Logs in to the Storefront using JavaScript to set the authorization token.
+     * The first login of a buyer retrieves the access token through {@link APIBuyerLogin}, sets the authorization
+     * cookie and saves the resulting {@link BrowserSession}. Later logins of the same buyer restore the saved session
+     * before loading the Storefront.
      *
      * @param credentials The credentials of the buyer to authenticate.
      */
     public void loginStorefrontByJS(APISellerLogin.Credentials credentials) {
         // Log the start of the login process
         logger.info("Initiating login to Storefront using JavaScript");
+        String sessionKey = "storefront:" + credentials.getUsername();
+        String storeURL = PropertiesUtils.getStoreURL();
+
+        // Restore the session of the buyer if it already logged in during this run
+        BrowserSession session = BrowserSession.find(sessionKey);
+        if (session != null) {
+            session.restore(driver);
+            driver.get(storeURL);
+            logger.info("Restored Storefront session, navigated to Storefront URL: {}", storeURL);
+            return;
+        }
 
         // Retrieve the buyer's access token using API
         String buyerAccessToken = new APIBuyerLogin().getBuyerInformation(credentials).getAccessToken();
         logger.info("Access token retrieved successfully");
 
         // Navigate to the Storefront URL
-        String storeURL = PropertiesUtils.getStoreURL();
         driver.get(storeURL);
         logger.info("Navigated to Storefront URL: {}", storeURL);
 
         // Update the Authorization token in the cookie using JavaScript
-        String script = "document.cookie = 'Authorization=\"Bearer %s\"'".formatted(buyerAccessToken);
-        ((JavascriptExecutor) driver).executeScript(script);
+        BrowserSession.of(storeURL, Map.of(), Map.of("Authorization", "\"Bearer %s\"".formatted(buyerAccessToken))).apply(driver);
         logger.info("Authorization token updated in cookie");
 
-        // Refresh the page to load the new configuration
+        // Refresh the page to load the new configuration, then keep the session for the next logins of the buyer
         driver.navigate().refresh();
+        BrowserSession.save(sessionKey, BrowserSession.capture(driver));
         logger.info("Page refreshed to apply new session");
 
         // Log the completion of the login process
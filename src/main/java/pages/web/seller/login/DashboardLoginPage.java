@@ -9,9 +9,15 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.pagefactory.ByChained;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.testng.Assert;
+import utility.BrowserSession;
 import utility.PropertiesUtils;
 import utility.WebUtils;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import static utility.LocalizationCatalog.Key.*;
+
 /**
  * Represents the login page of the seller's dashboard.
  * This class provides functionality to log in to the dashboard by setting the necessary authentication tokens and
@@ -159,10 +165,10 @@ public class DashboardLoginPage {
         logger.info("Verifying error messages when username and password fields are left blank.");
 
         String usernameErr = getUsernameError();
-        Assert.assertEquals(usernameErr, PropertiesUtils.getDashboardProperty("input.blank.error", langKey), "Username blank error not match.");
+        Assert.assertEquals(usernameErr, PropertiesUtils.getDashboardProperty(INPUT_BLANK_ERROR, langKey), "Username blank error not match.");
 
         String passwordErr = getPasswordError();
-        Assert.assertEquals(passwordErr, PropertiesUtils.getDashboardProperty("input.blank.error", langKey), "Password blank error not match.");
+        Assert.assertEquals(passwordErr, PropertiesUtils.getDashboardProperty(INPUT_BLANK_ERROR, langKey), "Password blank error not match.");
     }
 
     /**
@@ -172,7 +178,7 @@ public class DashboardLoginPage {
         logger.info("Verifying error message when an invalid phone format is entered.");
 
         String usernameErr = getUsernameError();
-        Assert.assertEquals(usernameErr, PropertiesUtils.getDashboardProperty("login.screen.error.invalidPhone", langKey), "Invalid phone format error not match.");
+        Assert.assertEquals(usernameErr, PropertiesUtils.getDashboardProperty(LOGIN_INVALID_PHONE_ERROR, langKey), "Invalid phone format error not match.");
     }
 
     /**
@@ -182,7 +188,7 @@ public class DashboardLoginPage {
         logger.info("Verifying error message when an invalid email format is entered.");
 
         String usernameErr = getUsernameError();
-        Assert.assertEquals(usernameErr, PropertiesUtils.getDashboardProperty("login.screen.error.invalidMail", langKey), "Invalid mail format error not match.");
+        Assert.assertEquals(usernameErr, PropertiesUtils.getDashboardProperty(LOGIN_INVALID_MAIL_ERROR, langKey), "Invalid mail format error not match.");
     }
 
     /**
@@ -192,7 +198,7 @@ public class DashboardLoginPage {
         logger.info("Verifying login failure error message when non-existent account credentials are used.");
 
         String loginFailErr = getLoginFailError();
-        Assert.assertEquals(loginFailErr, PropertiesUtils.getDashboardProperty("login.screen.error.wrongCredentials", langKey), "Login fail error not match.");
+        Assert.assertEquals(loginFailErr, PropertiesUtils.getDashboardProperty(LOGIN_WRONG_CREDENTIALS_ERROR, langKey), "Login fail error not match.");
     }
 
     /**
@@ -248,31 +254,52 @@ public class DashboardLoginPage {
 
     /**
      * Logs in to the dashboard by setting local storage items using JavaScript.
-     * This method accesses the dashboard URL, retrieves login credentials and user information, and then uses JavaScript
-     * to set local storage items such as access token, refresh token, store ID, user ID, and store owner ID. Finally, it
-     * refreshes the page to apply the login session.
+     * The first login of an account retrieves the access token, refresh token, store ID, user ID and store owner ID
+     * through the API, writes them into local storage in a single script and refreshes the page, then saves the
+     * resulting {@link BrowserSession}. Later logins of the same account restore the saved session before loading the dashboard.
      *
      * @param credentials The credentials used to log in and retrieve user information.
      */
     public void loginDashboardByJs(APISellerLogin.Credentials credentials) {
-        // Access the dashboard to set the cookie
-        driver.get(PropertiesUtils.getDomain());
+        String sessionKey = "dashboard:" + credentials.getUsername();
+        String domain = PropertiesUtils.getDomain();
+
+        // Restore the session of the account if it already logged in during this run
+        BrowserSession session = BrowserSession.find(sessionKey);
+        if (session != null) {
+            session.restore(driver);
+            driver.get(domain);
+            if (!driver.getCurrentUrl().contains("/login")) {
+                logger.info("Restored dashboard session");
+                return;
+            }
+
+            // The dashboard rejected the saved session, log in again
+            logger.info("Saved dashboard session was rejected, logging in again");
+            BrowserSession.forget(sessionKey);
+        }
+
+        // Access the dashboard to set the local storage
+        driver.get(domain);
 
         // Initialize login information model
         APISellerLogin.LoginInformation loginInfo = new APISellerLogin().getSellerInformation(credentials);
 
-        // Set local storage items using JavaScript
-        webUtils.setLocalStorageValue("accessToken", loginInfo.getAccessToken());
-        webUtils.setLocalStorageValue("refreshToken", loginInfo.getRefreshToken());
-        webUtils.setLocalStorageValue("storeId", loginInfo.getStore().getId());
-        webUtils.setLocalStorageValue("userId", loginInfo.getId());
-        webUtils.setLocalStorageValue("storeOwnerId", loginInfo.getId());
-        webUtils.setLocalStorageValue("storeFull", "storeFull");
-        webUtils.setLocalStorageValue("langKey", loginInfo.getLangKey());
+        // Set local storage items using JavaScript, leaving out the fields the API did not return
+        Map<String, Object> localStorage = new HashMap<>();
+        localStorage.put("accessToken", loginInfo.getAccessToken());
+        localStorage.put("refreshToken", loginInfo.getRefreshToken());
+        localStorage.put("storeId", String.valueOf(loginInfo.getStore().getId()));
+        localStorage.put("userId", String.valueOf(loginInfo.getId()));
+        localStorage.put("storeOwnerId", String.valueOf(loginInfo.getId()));
+        localStorage.put("storeFull", "storeFull");
+        localStorage.put("langKey", String.valueOf(loginInfo.getLangKey()));
+        BrowserSession.of(domain, localStorage, Map.of()).apply(driver);
 
         logger.info("Set local storage successfully");
 
-        // Refresh the page to apply the login session
+        // Refresh the page to apply the login session, then keep it for the next logins of the account
         driver.navigate().refresh();
+        BrowserSession.save(sessionKey, BrowserSession.capture(driver));
     }
 }
@@ -4,10 +4,9 @@ import api.seller.login.APISellerLogin;
 import api.seller.product.APIGetProductDetail;
 import api.seller.product.APIGetProductList;
 import api.seller.setting.APIGetBranchList;
-import api.seller.setting.APIGetStoreDefaultLanguage;
 import api.seller.setting.APIGetStoreLanguage;
 import api.seller.setting.APIGetVATList;
-import api.seller.user_feature.APIGetUserFeature;
+import api.seller.setting.StoreContext;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Setter;
@@ -129,14 +128,17 @@ public class BaseProductPage extends BaseProductElement {
         // Update credentials for further API requests
         this.credentials = credentials;
 
+        // Retrieve the shared store settings in one parallel batch
+        StoreContext storeContext = StoreContext.of(credentials);
+
         // Retrieve and store branch information
-        List<APIGetBranchList.BranchInformation> branchInfos = new APIGetBranchList(credentials).getBranchInformation();
+        List<APIGetBranchList.BranchInformation> branchInfos = storeContext.getBranchInfos();
 
         // Retrieve and store language information
-        List<APIGetStoreLanguage.LanguageInformation> languageInfos = new APIGetStoreLanguage(credentials).getStoreLanguageInformation();
+        List<APIGetStoreLanguage.LanguageInformation> languageInfos = storeContext.getLanguageInfos();
 
         // Retrieve the default language of the seller
-        this.defaultLanguage = new APIGetStoreDefaultLanguage(credentials).getDefaultLanguage();
+        this.defaultLanguage = storeContext.getDefaultLanguage();
 
         // Get active branch names and IDs
         this.activeBranchNames = APIGetBranchList.getActiveBranchNames(branchInfos);
@@ -150,7 +152,7 @@ public class BaseProductPage extends BaseProductElement {
         this.storeLanguageNames = APIGetStoreLanguage.getAllStoreLanguageNames(languageInfos);
 
         // Get all user packages
-        this.userPackages = new APIGetUserFeature(credentials).getUserFeature();
+        this.userPackages = storeContext.getUserPackages();
 
         // Init platform information
         this.showOnApp = hasGoAPP(userPackages);
@@ -171,7 +173,7 @@ public class BaseProductPage extends BaseProductElement {
      */
     private void fetchProductInformation(boolean isManagedByIMEI, boolean hasModel, int[] branchStock) {
         // Retrieve tax information (VAT details)
-        var vatInfos = new APIGetVATList(credentials).getVATInformation();
+        var vatInfos = StoreContext.of(credentials).getVatInfos();
         List<Integer> vatIds = APIGetVATList.getVATIds(vatInfos); // List of VAT IDs
         List<String> vatNames = APIGetVATList.getVATNames(vatInfos); // List of VAT names
 
@@ -1205,7 +1207,7 @@ public class BaseProductPage extends BaseProductElement {
         varValues.forEach(varValue -> {
             webUtils.getElement(loc_txtVariationValue, groupIndex).sendKeys(varValue);
             // Wait for suggestion to appear
-            WebUtils.sleep(1000);
+            webUtils.waitForPageSettled();
 
             // Complete the input of variation value by pressing Enter
             webUtils.getElement(loc_txtVariationValue, groupIndex).sendKeys(Keys.chord(Keys.ENTER));
@@ -1726,9 +1728,8 @@ public class BaseProductPage extends BaseProductElement {
         // Change product status
         changeProductStatus();
 
-        // Wait for the product status to change before verification
-        // This delay allows the system time to update the product status
-        WebUtils.sleep(1000);
+        // Wait for the product status change to be saved before verification
+        webUtils.waitForPageSettled();
 
         // Verify that the product status has been correctly updated
         var actualProductInfoAfterChangeProductStatus = new APIGetProductDetail(credentials).getProductInformation(newProductInfo.getId());
@@ -2002,8 +2003,8 @@ public class BaseProductPage extends BaseProductElement {
                         .updateVariationAttribution()
         );
 
-        // Pause briefly to allow the attribution update process to complete
-        WebUtils.sleep(1000);
+        // Wait for the attribution update process to complete
+        webUtils.waitForPageSettled();
 
         // Get current product information
         var actualProductInfo = new APIGetProductDetail(credentials).getProductInformation(newProductInfo.getId());
@@ -175,12 +175,8 @@ public class ProductManagementPage {
      * @return A list of product IDs displayed on the first page.
      */
     private List<Integer> collectProductIds() {
-        // Get the number of products displayed on the first page
-        int productCount = webUtils.getListElement(loc_lblProductId).size();
-
-        // Collect product IDs into a list
-        return IntStream.range(0, productCount)
-                .mapToObj(index -> webUtils.getText(loc_lblProductId, index))
+        // Read the product IDs of all rows in one script execution
+        return webUtils.getTexts(loc_lblProductId).stream()
                 .filter(productId -> !productId.isEmpty())
                 .map(Integer::parseInt)
                 .toList();
@@ -6,6 +6,7 @@ import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import utility.WebUtils;
 
 import java.util.List;
@@ -149,10 +150,14 @@ public class WholesaleProductPage {
         // Select the required number of variations based on their values
         IntStream.range(0, numberOfWholesaleProduct).forEach(varIndex -> selectVariation(variationValues.get(varIndex)));
 
+        // Wait for the groups of all selected variations, then read their labels at once
+        webUtils.waitForCondition(ExpectedConditions.numberOfElementsToBeMoreThan(loc_lblVariationValue, numberOfWholesaleProduct - 1));
+        List<String> variationLabels = webUtils.getTexts(loc_lblVariationValue);
+
         // For each selected variation, configure wholesale pricing
         IntStream.range(0, numberOfWholesaleProduct).forEach(index -> {
             // Retrieve the variation's label value
-            String value = webUtils.getText(loc_lblVariationValue, index).replace(",", "");
+            String value = variationLabels.get(index).replace(",", "");
 
             // Find the index of the variation in the variation values list
             int varIndex = variationValues.indexOf(value);
@@ -0,0 +1,58 @@
+package utility;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Wraps a UI action of {@link WebUtils}, {@link AndroidUtils} or {@link IOSUtils} with cross-cutting behavior
+ * such as logging, element highlighting or screenshots.
+ * <p>
+ * Decorators are chained by {@link ExecutionProfile}: each decorator receives the rest of the chain as
+ * {@code action} and must run it exactly once. The built-in decorators are provided by {@link ActionDecorators}.
+ */
+@FunctionalInterface
+public interface ActionDecorator {
+
+    /**
+     * Runs the action with the behavior of this decorator.
+     *
+     * @param step   The step being performed.
+     * @param action The rest of the decorator chain, ending with the action itself.
+     */
+    void around(Step step, Runnable action);
+
+    /**
+     * A single UI step passed through the decorator chain.
+     *
+     * @param name    The action name, such as "click", or the description of a named step.
+     * @param driver  The driver performing the step, or {@code null} for named steps.
+     * @param locator The locator of the target element, or {@code null} if the step has no single target.
+     * @param index   The index of the target element if multiple elements match the locator.
+     */
+    record Step(String name, WebDriver driver, By locator, int index) {
+
+        /**
+         * Creates a named step grouping several actions, such as "Login to dashboard".
+         *
+         * @param description The description of the step.
+         * @return The step.
+         */
+        public static Step named(String description) {
+            return new Step(description, null, null, 0);
+        }
+
+        /**
+         * Checks whether the step targets a single element.
+         *
+         * @return {@code true} if the step has a locator.
+         */
+        public boolean hasTarget() {
+            return locator != null;
+        }
+
+        @Override
+        public String toString() {
+            return hasTarget() ? "%s %s [%d]".formatted(name, locator, index) : name;
+        }
+    }
+}
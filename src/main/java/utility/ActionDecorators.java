@@ -0,0 +1,120 @@
+package utility;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import io.appium.java_client.AppiumDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Built-in {@link ActionDecorator}s used by the execution profiles.
+ */
+public class ActionDecorators {
+    private static final Logger logger = LogManager.getLogger();
+
+    // Sequence number of the step screenshots saved outside a test
+    private static final AtomicInteger screenshotSequence = new AtomicInteger();
+
+    /**
+     * Logs named steps at info level, single-element actions are not logged.
+     *
+     * @return The decorator.
+     */
+    public static ActionDecorator namedStepLogging() {
+        return (step, action) -> {
+            if (!step.hasTarget()) logger.info(step.name());
+            action.run();
+        };
+    }
+
+    /**
+     * Logs every step at info level with its duration, and the steps that fail.
+     *
+     * @return The decorator.
+     */
+    public static ActionDecorator verboseLogging() {
+        return (step, action) -> {
+            logger.info("Start: {}", step);
+            long start = System.nanoTime();
+            try {
+                action.run();
+            } catch (RuntimeException | AssertionError ex) {
+                logger.warn("Failed: {} after {} ms: {}", step, (System.nanoTime() - start) / 1_000_000, ex.getMessage());
+                throw ex;
+            }
+            logger.info("Done: {} in {} ms", step, (System.nanoTime() - start) / 1_000_000);
+        };
+    }
+
+    /**
+     * Outlines the target element in red and pauses before the action so it can be followed on screen.
+     * Only applies to web elements that are already present, mobile steps and named steps are run as is.
+     *
+     * @param pauseMillis The time the element stays highlighted before the action.
+     * @return The decorator.
+     */
+    public static ActionDecorator highlighting(long pauseMillis) {
+        return (step, action) -> {
+            if (!step.hasTarget() || step.driver() instanceof AppiumDriver
+                || !(step.driver() instanceof JavascriptExecutor jsExecutor)) {
+                action.run();
+                return;
+            }
+
+            WebElement element = null;
+            try {
+                List<WebElement> elements = step.driver().findElements(step.locator());
+                if (elements.size() > step.index()) {
+                    element = elements.get(step.index());
+                    jsExecutor.executeScript("arguments[0].style.outline = '2px solid red'", element);
+                    WebUtils.sleep(pauseMillis);
+                }
+            } catch (WebDriverException ex) {
+                logger.debug("Cannot highlight {}: {}", step, ex.getMessage());
+            }
+
+            action.run();
+
+            if (element == null) return;
+            try {
+                jsExecutor.executeScript("arguments[0].style.outline = ''", element);
+            } catch (WebDriverException ignored) {
+                // The action navigated away or re-rendered the element
+            }
+        };
+    }
+
+    /**
+     * Captures a screenshot after each successful step that targets an element.
+     * The screenshot is attached to the running Extent test, or saved to the 'debug/steps' folder outside a test.
+     *
+     * @return The decorator.
+     */
+    public static ActionDecorator stepScreenshots() {
+        return (step, action) -> {
+            action.run();
+            if (!step.hasTarget() || !(step.driver() instanceof TakesScreenshot camera)) return;
+
+            try {
+                ExtentTest test = TestContext.getCurrentTest();
+                if (test != null) {
+                    String base64Image = camera.getScreenshotAs(OutputType.BASE64);
+                    test.info(step.toString(), MediaEntityBuilder.createScreenCaptureFromBase64String(base64Image).build());
+                } else {
+                    ScreenshotUtils.takeScreenshot(step.driver(), "steps",
+                            "%04d_%s".formatted(screenshotSequence.incrementAndGet(), step.name()));
+                }
+            } catch (WebDriverException ex) {
+                logger.debug("Cannot capture screenshot of {}: {}", step, ex.getMessage());
+            }
+        };
+    }
+}
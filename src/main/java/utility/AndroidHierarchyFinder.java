@@ -0,0 +1,351 @@
+package utility;
+
+import io.appium.java_client.AppiumBy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.openqa.selenium.*;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds Android elements from a local snapshot of the UI hierarchy instead of on-device UiScrollable searches.
+ * <p>
+ * The page source is pulled once and indexed by resource ID and text, with the bounds of each node and of the
+ * scrollable container holding it. A lookup then knows whether the element is on screen, partly hidden or not rendered:
+ * <ul>
+ *     <li>On screen: the element is fetched with a plain UiSelector for its exact instance, without scrolling.</li>
+ *     <li>Partly hidden: the container is scrolled by exactly the hidden distance.</li>
+ *     <li>Not rendered: the container is scrolled a page at a time, down then up, re-reading the hierarchy after each scroll.</li>
+ * </ul>
+ * Lookups are served from the same snapshot until {@link AndroidUtils} performs an action on the screen or a lookup
+ * misses, which pulls a new one. When all else fails, the original UiScrollable locator is used.
+ */
+public class AndroidHierarchyFinder {
+    private static final Logger logger = LogManager.getLogger();
+    private static final Pattern BOUNDS = Pattern.compile("\\[(-?\\d+),(-?\\d+)]\\[(-?\\d+),(-?\\d+)]");
+
+    // Margin kept between a scrolled element and the edge of its container, in pixels
+    private static final int SCROLL_MARGIN = 40;
+
+    // Wait for the screen to settle before searching off screen
+    private static final long SETTLE_TIMEOUT_MILLIS = 3_000;
+
+    // Finders by driver, shared by all screens using the same session
+    private static final Map<WebDriver, AndroidHierarchyFinder> finders = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final WebDriver driver;
+    private Snapshot snapshot;
+
+    /**
+     * Kind of search of a {@link HierarchyBy}.
+     */
+    public enum Kind {
+        RESOURCE_ID("resourceId"),
+        TEXT("text"),
+        TEXT_STARTS_WITH("textStartsWith");
+
+        private final String selector;
+
+        Kind(String selector) {
+            this.selector = selector;
+        }
+    }
+
+    /**
+     * Locator resolved by the {@link AndroidHierarchyFinder} when used with {@link AndroidUtils}.
+     * Used directly with {@link WebDriver#findElements(By)}, it behaves as the original UiScrollable locator.
+     */
+    public static class HierarchyBy extends By {
+        private final Kind kind;
+        private final String value;
+        private final int instance;
+        private final By scrollableLocator;
+
+        /**
+         * Creates a locator.
+         *
+         * @param kind     The kind of search.
+         * @param value    The resource ID, text or text prefix.
+         * @param instance The index of the element among the matching elements.
+         */
+        public HierarchyBy(Kind kind, String value, int instance) {
+            this.kind = kind;
+            this.value = value;
+            this.instance = instance;
+            this.scrollableLocator = AppiumBy.androidUIAutomator("new UiScrollable(new UiSelector().scrollable(true)).scrollIntoView(%s)"
+                    .formatted(toUiSelector(instance)));
+        }
+
+        /**
+         * Builds the UiSelector of the n-th element matching this locator.
+         */
+        private String toUiSelector(int index) {
+            String selector = "new UiSelector().%s(\"%s\")".formatted(kind.selector, value.replace("\"", "\\\""));
+            return index == 0 ? selector : selector + ".instance(%d)".formatted(index);
+        }
+
+        private boolean matches(Node node) {
+            return switch (kind) {
+                case RESOURCE_ID -> node.resourceId().equals(value);
+                case TEXT -> node.text().equals(value);
+                case TEXT_STARTS_WITH -> node.text().startsWith(value);
+            };
+        }
+
+        /**
+         * Retrieves the original UiScrollable locator, searching and scrolling on the device.
+         *
+         * @return The UiScrollable locator.
+         */
+        public By getScrollableLocator() {
+            return scrollableLocator;
+        }
+
+        @Override
+        public List<WebElement> findElements(SearchContext context) {
+            return context.findElements(scrollableLocator);
+        }
+
+        @Override
+        public String toString() {
+            return "By.hierarchy: %s=\"%s\"%s".formatted(kind.selector, value, instance == 0 ? "" : "[%d]".formatted(instance));
+        }
+    }
+
+    /**
+     * A node of the UI hierarchy.
+     *
+     * @param resourceId The resource ID, empty if none.
+     * @param text       The text, empty if none.
+     * @param bounds     The bounds of the node on screen.
+     * @param viewport   The bounds of the scrollable container holding the node, or of the screen.
+     */
+    private record Node(String resourceId, String text, Rectangle bounds, Rectangle viewport) {
+        private boolean isOnScreen() {
+            return bounds.getY() >= viewport.getY() && bounds.getY() + bounds.getHeight() <= viewport.getY() + viewport.getHeight();
+        }
+
+        /**
+         * Computes the distance to scroll so the node is fully inside its container.
+         *
+         * @return A positive distance to scroll down, a negative one to scroll up.
+         */
+        private int getScrollDistance() {
+            int top = bounds.getY(), bottom = top + bounds.getHeight();
+            int viewportTop = viewport.getY(), viewportBottom = viewportTop + viewport.getHeight();
+            if (bottom > viewportBottom) return Math.min(bottom - viewportBottom + SCROLL_MARGIN, top - viewportTop);
+            if (top < viewportTop) return top - viewportTop - SCROLL_MARGIN;
+            return 0;
+        }
+    }
+
+    /**
+     * Indexed UI hierarchy.
+     *
+     * @param source    The page source the snapshot was built from.
+     * @param nodes     The nodes in document order, which is the order of UiSelector instances.
+     * @param container The largest scrollable container, or {@code null} if the screen cannot scroll.
+     */
+    private record Snapshot(String source, List<Node> nodes, Rectangle container) {
+        private List<Node> find(HierarchyBy locator) {
+            return nodes.stream().filter(locator::matches).toList();
+        }
+    }
+
+    private AndroidHierarchyFinder(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Retrieves the finder of a driver.
+     *
+     * @param driver The Android driver.
+     * @return The finder of the driver.
+     */
+    public static AndroidHierarchyFinder of(WebDriver driver) {
+        return finders.computeIfAbsent(driver, AndroidHierarchyFinder::new);
+    }
+
+    /**
+     * Drops the current snapshot, typically after an action that may change the screen.
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * Finds the element of a locator, scrolling it fully into view.
+     *
+     * @param locator The locator.
+     * @return The element.
+     * @throws RuntimeException if the element cannot be found, even by the UiScrollable locator.
+     */
+    public synchronized WebElement find(HierarchyBy locator) {
+        // A second pass covers a snapshot outdated by a screen change outside AndroidUtils
+        for (int pass = 0; pass < 2; pass++) {
+            Node node = findNode(locator);
+            if (node == null) break;
+
+            // Bring a partly hidden element fully into view, a few times at most as scrolls are not pixel-exact
+            for (int attempt = 0; attempt < 3 && node != null && !node.isOnScreen(); attempt++) {
+                if (!scroll(node.viewport(), node.getScrollDistance())) break;
+                node = getNode(refresh(), locator);
+            }
+            WebElement element = fetch(locator);
+            if (element != null) return element;
+            invalidate();
+        }
+
+        // Let UiScrollable search the screen as before
+        logger.debug("Falling back to UiScrollable for {}", locator);
+        invalidate();
+        List<WebElement> elements = driver.findElements(locator.getScrollableLocator());
+        if (elements.isEmpty()) throw new RuntimeException("Element not found after scrolling attempts: " + locator);
+        return elements.getFirst();
+    }
+
+    /**
+     * Finds the elements of a locator displayed on the current screen, without scrolling.
+     *
+     * @param locator The locator.
+     * @return The displayed elements, empty if none matches in the current hierarchy.
+     */
+    public synchronized List<WebElement> findAllOnScreen(HierarchyBy locator) {
+        if (current().find(locator).size() <= locator.instance && refresh().find(locator).size() <= locator.instance) {
+            return List.of();
+        }
+
+        // A plain UiSelector returns every match on screen, in the same order as the instances
+        List<WebElement> elements = driver.findElements(AppiumBy.androidUIAutomator(locator.toUiSelector(0)));
+        return elements.size() > locator.instance ? elements.subList(locator.instance, elements.size()) : List.of();
+    }
+
+    /**
+     * Locates the node of a locator in the hierarchy, scrolling page by page when it is not rendered yet.
+     *
+     * @return The node, or {@code null} if it was not found.
+     */
+    private Node findNode(HierarchyBy locator) {
+        Node node = getNode(current(), locator);
+        if (node != null) return node;
+
+        // The screen may still be loading: re-read it until it matches or stops changing
+        long deadline = System.currentTimeMillis() + SETTLE_TIMEOUT_MILLIS;
+        String previousSource = snapshot.source();
+        while (System.currentTimeMillis() < deadline) {
+            node = getNode(refresh(), locator);
+            if (node != null) return node;
+            if (snapshot.source().equals(previousSource)) break;
+            previousSource = snapshot.source();
+        }
+
+        // Search off screen: down twice, then up four times, as the previous XPath fallback did
+        Rectangle container = snapshot.container();
+        if (container == null) return null;
+        for (int page = 0; page < 6; page++) {
+            int direction = page < 2 ? 1 : -1;
+            boolean canScrollMore = scroll(container, direction * container.getHeight() * 4 / 5);
+            node = getNode(refresh(), locator);
+            if (node != null) return node;
+            if (!canScrollMore && page < 2) page = 1;
+            else if (!canScrollMore) break;
+        }
+        return null;
+    }
+
+    private static Node getNode(Snapshot snapshot, HierarchyBy locator) {
+        List<Node> nodes = snapshot.find(locator);
+        return locator.instance < nodes.size() ? nodes.get(locator.instance) : null;
+    }
+
+    /**
+     * Fetches the element with a plain UiSelector, which searches the current hierarchy without scrolling.
+     *
+     * @return The element, or {@code null} if the screen changed since the snapshot.
+     */
+    private WebElement fetch(HierarchyBy locator) {
+        List<WebElement> elements = driver.findElements(AppiumBy.androidUIAutomator(locator.toUiSelector(locator.instance)));
+        return elements.isEmpty() ? null : elements.getFirst();
+    }
+
+    /**
+     * Scrolls a container by a distance with a drag gesture, then drops the snapshot.
+     *
+     * @param container The bounds of the scrollable container.
+     * @param distance  The distance in pixels, positive to reveal content below, negative to reveal content above.
+     * @return {@code true} if the container can scroll further in that direction.
+     */
+    private boolean scroll(Rectangle container, int distance) {
+        if (distance == 0) return false;
+
+        // Keep the gesture away from the container's edges, where it could hit toolbars or pull-to-refresh
+        int inset = container.getHeight() / 10;
+        int height = container.getHeight() - 2 * inset;
+        double percent = Math.min(1.0, (double) Math.abs(distance) / height);
+        invalidate();
+        Object canScrollMore = ((JavascriptExecutor) driver).executeScript("mobile: scrollGesture", Map.of(
+                "left", container.getX(), "top", container.getY() + inset,
+                "width", container.getWidth(), "height", height,
+                "direction", distance > 0 ? "down" : "up",
+                "percent", percent));
+        logger.debug("Scrolled {} by {} px", distance > 0 ? "down" : "up", Math.abs(distance));
+        return !Boolean.FALSE.equals(canScrollMore);
+    }
+
+    private Snapshot current() {
+        return snapshot != null ? snapshot : refresh();
+    }
+
+    /**
+     * Pulls the page source and indexes its nodes.
+     */
+    private Snapshot refresh() {
+        String source = driver.getPageSource();
+        Element root = Jsoup.parse(source, "", Parser.xmlParser()).selectFirst("hierarchy");
+        Rectangle screen = root == null ? new Rectangle(0, 0, Integer.MAX_VALUE, Integer.MAX_VALUE)
+                : new Rectangle(0, 0, Integer.parseInt(root.attr("height").isEmpty() ? "0" : root.attr("height")),
+                Integer.parseInt(root.attr("width").isEmpty() ? "0" : root.attr("width")));
+
+        List<Node> nodes = new ArrayList<>();
+        Rectangle[] largestContainer = {null};
+        if (root != null) {
+            for (Element child : root.children()) {
+                index(child, screen, nodes, largestContainer);
+            }
+        }
+
+        snapshot = new Snapshot(source, nodes, largestContainer[0]);
+        return snapshot;
+    }
+
+    private static void index(Element element, Rectangle viewport, List<Node> nodes, Rectangle[] largestContainer) {
+        Rectangle bounds = parseBounds(element.attr("bounds"));
+        if (bounds != null) {
+            nodes.add(new Node(element.attr("resource-id"), element.attr("text"), bounds, viewport));
+            if (element.attr("scrollable").equals("true")) {
+                viewport = bounds;
+                if (largestContainer[0] == null || area(bounds) > area(largestContainer[0])) largestContainer[0] = bounds;
+            }
+        }
+        for (Element child : element.children()) {
+            index(child, viewport, nodes, largestContainer);
+        }
+    }
+
+    private static long area(Rectangle rectangle) {
+        return (long) rectangle.getWidth() * rectangle.getHeight();
+    }
+
+    private static Rectangle parseBounds(String bounds) {
+        Matcher matcher = BOUNDS.matcher(bounds);
+        if (!matcher.matches()) return null;
+        int left = Integer.parseInt(matcher.group(1)), top = Integer.parseInt(matcher.group(2));
+        int right = Integer.parseInt(matcher.group(3)), bottom = Integer.parseInt(matcher.group(4));
+        return new Rectangle(left, top, bottom - top, right - left);
+    }
+}
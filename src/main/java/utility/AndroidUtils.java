@@ -9,6 +9,8 @@ import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utility.AndroidHierarchyFinder.HierarchyBy;
+import utility.AndroidHierarchyFinder.Kind;
 
 import java.io.File;
 import java.io.IOException;
@@ -33,21 +35,32 @@ public class AndroidUtils {
     }
 
     public static By getLocatorByResourceId(String resourceId) {
-        return AppiumBy.androidUIAutomator("new UiScrollable(new UiSelector().scrollable(true)).scrollIntoView(new UiSelector().resourceId(\"%s\"))".formatted(resourceId.formatted(appBundleId)));
+        return getHierarchyLocator(Kind.RESOURCE_ID, resourceId.formatted(appBundleId), 0);
     }
 
     public static By getLocatorByResourceIdAndInstance(String resourceId, int index) {
-        return AppiumBy.androidUIAutomator("new UiScrollable(new UiSelector().scrollable(true)).scrollIntoView(new UiSelector().resourceId(\"%s\").instance(%d))".formatted(resourceId.formatted(appBundleId), index));
+        return getHierarchyLocator(Kind.RESOURCE_ID, resourceId.formatted(appBundleId), index);
     }
 
     public static By getLocatorByText(String text) {
-        return AppiumBy.androidUIAutomator("new UiScrollable(new UiSelector().scrollable(true)).scrollIntoView(new UiSelector().text(\"%s\"))".formatted(text));
+        return getHierarchyLocator(Kind.TEXT, text, 0);
     }
 
     public static By getLocatorByPartialText(String partialText) {
-        return AppiumBy.androidUIAutomator("new UiScrollable(new UiSelector().scrollable(true)).scrollIntoView(new UiSelector().textStartsWith(\"%s\"))".formatted(partialText));
+        return getHierarchyLocator(Kind.TEXT_STARTS_WITH, partialText, 0);
     }
 
+    /**
+     * Creates a locator resolved from the UI hierarchy snapshot by {@link AndroidHierarchyFinder},
+     * or the UiScrollable locator it falls back to when {@code androidHierarchyFinder=off}.
+     */
+    private static By getHierarchyLocator(Kind kind, String value, int instance) {
+        HierarchyBy locator = new HierarchyBy(kind, value, instance);
+        return hierarchyFinderEnabled ? locator : locator.getScrollableLocator();
+    }
+
+    private static final boolean hierarchyFinderEnabled = !PropertiesUtils.getAndroidHierarchyFinder().equals("off");
+
 
     private final WebDriver driver;
     private final WebDriverWait wait;
@@ -74,10 +87,18 @@ public class AndroidUtils {
         return new WebDriverWait(driver, Duration.ofMillis(timeout));
     }
 
+    /**
+     * Drops the UI hierarchy snapshot, as the screen may have changed.
+     */
+    private void invalidateHierarchy() {
+        AndroidHierarchyFinder.of(driver).invalidate();
+    }
+
     /**
      * Scrolls to the top of the screen using UiScrollable.
      */
     public void scrollToTopOfScreen() {
+        invalidateHierarchy();
         try {
             driver.findElement(androidUIAutomator(
                     "new UiScrollable(new UiSelector().scrollable(true)).scrollBackward().scrollToBeginning(1000)"));
@@ -88,6 +109,7 @@ public class AndroidUtils {
     }
 
     public void scrollDown() {
+        invalidateHierarchy();
         try {
             driver.findElement(androidUIAutomator(
                     "new UiScrollable(new UiSelector().scrollable(true)).scrollForward()"));
@@ -101,6 +123,7 @@ public class AndroidUtils {
      * Scrolls to the end of the screen using UiScrollable.
      */
     public void scrollToEndOfScreen() {
+        invalidateHierarchy();
         try {
             driver.findElement(androidUIAutomator(
                     "new UiScrollable(new UiSelector().scrollable(true)).scrollForward().scrollToEnd(1000)"));
@@ -111,6 +134,7 @@ public class AndroidUtils {
     }
 
     public void scrollUp() {
+        invalidateHierarchy();
         try {
             driver.findElement(androidUIAutomator(
                     "new UiScrollable(new UiSelector().scrollable(true)).scrollBackward()"));
@@ -130,6 +154,13 @@ public class AndroidUtils {
     public List<WebElement> getListElement(By locator, int... milliseconds) {
         // Determine the wait time, using the provided timeout or defaulting to 3000 ms
         int waitTime = (milliseconds.length != 0) ? milliseconds[0] : 3000;
+
+        // Serve elements already displayed from the hierarchy snapshot, without an on-device search
+        if (locator instanceof HierarchyBy hierarchyLocator) {
+            List<WebElement> elements = AndroidHierarchyFinder.of(driver).findAllOnScreen(hierarchyLocator);
+            if (!elements.isEmpty()) return elements;
+        }
+
         try {
             customWait(waitTime).until(ExpectedConditions.presenceOfElementLocated(locator));
         } catch (TimeoutException ignored) {
@@ -147,6 +178,10 @@ public class AndroidUtils {
      * @throws RuntimeException If the element cannot be made fully visible after retries.
      */
     public WebElement getElement(By locator) {
+        if (locator instanceof HierarchyBy hierarchyLocator) {
+            return AndroidHierarchyFinder.of(driver).find(hierarchyLocator);
+        }
+
         if (locator instanceof AppiumBy) {
             return findElementWithScroll(locator);
         }
@@ -207,7 +242,9 @@ public class AndroidUtils {
      * @param locator The locator for the element.
      */
     public void click(By locator) {
-        WebUtils.retryOnStaleElement(() -> getElement(locator).click());
+        ExecutionProfile.current().run(new ActionDecorator.Step("click", driver, locator, 0),
+                () -> WebUtils.retryOnStaleElement(() -> getElement(locator).click()));
+        invalidateHierarchy();
     }
 
     /**
@@ -224,19 +261,22 @@ public class AndroidUtils {
             throw new IllegalArgumentException("Content to send cannot be null.");
         }
 
-        getElement(locator).clear();
+        ExecutionProfile.current().run(new ActionDecorator.Step("sendKeys", driver, locator, 0), () -> {
+            getElement(locator).clear();
 
-        if (content instanceof CharSequence) {
-            getElement(locator).sendKeys((CharSequence) content);
-            // Hide keyboard
-            hideKeyboard();
-            return; // Early return for CharSequence
-        }
+            if (content instanceof CharSequence) {
+                getElement(locator).sendKeys((CharSequence) content);
+                // Hide keyboard
+                hideKeyboard();
+                return; // Early return for CharSequence
+            }
 
-        getElement(locator).sendKeys(String.valueOf(content));
+            getElement(locator).sendKeys(String.valueOf(content));
 
-        // Hide keyboard
-        hideKeyboard();
+            // Hide keyboard
+            hideKeyboard();
+        });
+        invalidateHierarchy();
     }
 
     /**
@@ -269,6 +309,7 @@ public class AndroidUtils {
         element.clear();
         element.click();
         new Actions(driver).sendKeys(content).perform();
+        invalidateHierarchy();
     }
 
     /**
@@ -320,12 +361,23 @@ public class AndroidUtils {
     }
 
     /**
-     * Relaunches the app by terminating and then activating it again.
+     * Relaunches the app by terminating and then activating it again,
+     * and waits until the app is interactive.
      */
     public void relaunchApp() {
-        ((AndroidDriver) driver).terminateApp(appBundleId);
-        ((AndroidDriver) driver).activateApp(appBundleId);
-        logger.info("Relaunched app with package: {}", appBundleId);
+        relaunchApp(null);
+    }
+
+    /**
+     * Relaunches the app by terminating and then activating it again,
+     * and waits until the specified screen activity is displayed.
+     *
+     * @param readyActivity The activity displayed once the app is ready, or {@code null} to wait for any tappable element.
+     */
+    public void relaunchApp(String readyActivity) {
+        long millis = AppLifecycle.relaunch(driver, appBundleId, readyActivity == null ? null : AppLifecycle.activity(readyActivity));
+        invalidateHierarchy();
+        logger.info("Relaunched app with package: {} in {} ms", appBundleId, millis);
     }
 
     /**
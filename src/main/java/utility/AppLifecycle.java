@@ -0,0 +1,131 @@
+package utility;
+
+import io.appium.java_client.AppiumBy;
+import io.appium.java_client.InteractsWithApps;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.appmanagement.ApplicationState;
+import io.appium.java_client.ios.IOSDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Launches mobile apps and waits until they are interactive, instead of sleeping for a fixed time.
+ * <p>
+ * A launch is ready once {@code queryAppState} reports the app in the foreground and its ready condition holds:
+ * the expected activity on Android, a screen element, or by default any element the user can tap. Both are polled
+ * every {@value #POLLING_MILLIS} ms, so the wait returns as soon as the app is interactive.
+ * The launch-to-ready time of every launch is recorded by app.
+ */
+public class AppLifecycle {
+    private static final Logger logger = LogManager.getLogger();
+    private static final long POLLING_MILLIS = 200;
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(60);
+
+    // Launch-to-ready times by bundle ID
+    private static final Map<String, LongSummaryStatistics> launchTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a ready condition met once an Android activity is displayed.
+     *
+     * @param activity The activity, such as one of {@link utility.helper.ActivityHelper}.
+     * @return The ready condition.
+     */
+    public static ExpectedCondition<Boolean> activity(String activity) {
+        return driver -> {
+            String currentActivity = ((AndroidDriver) driver).currentActivity();
+            return currentActivity != null && activity.endsWith(currentActivity.replaceFirst("^\\.", ""));
+        };
+    }
+
+    /**
+     * Creates a ready condition met once an element is displayed.
+     *
+     * @param locator The locator of the element.
+     * @return The ready condition.
+     */
+    public static ExpectedCondition<Boolean> element(By locator) {
+        return driver -> !driver.findElements(locator).isEmpty();
+    }
+
+    /**
+     * Terminates and activates an app, then waits until it is interactive.
+     *
+     * @param driver         The AndroidDriver or IOSDriver instance.
+     * @param bundleId       The package or bundle ID of the app.
+     * @param readyCondition The condition met once the app is usable, or {@code null} for any tappable element.
+     * @return The launch-to-ready time in milliseconds.
+     */
+    public static long relaunch(WebDriver driver, String bundleId, ExpectedCondition<?> readyCondition) {
+        ((InteractsWithApps) driver).terminateApp(bundleId);
+        long launchStart = System.currentTimeMillis();
+        ((InteractsWithApps) driver).activateApp(bundleId);
+        return waitUntilReady(driver, bundleId, launchStart, readyCondition);
+    }
+
+    /**
+     * Waits until a launched app is in the foreground and its ready condition holds, and records the launch time.
+     *
+     * @param driver         The AndroidDriver or IOSDriver instance.
+     * @param bundleId       The package or bundle ID of the app.
+     * @param launchStart    The time the launch was requested, in epoch milliseconds.
+     * @param readyCondition The condition met once the app is usable, or {@code null} for any tappable element.
+     * @return The launch-to-ready time in milliseconds.
+     * @throws org.openqa.selenium.TimeoutException if the app is not ready within 60 seconds.
+     */
+    public static long waitUntilReady(WebDriver driver, String bundleId, long launchStart, ExpectedCondition<?> readyCondition) {
+        ExpectedCondition<?> condition = readyCondition != null ? readyCondition : element(getInteractiveMarker(driver, bundleId));
+        new WebDriverWait(driver, READY_TIMEOUT, Duration.ofMillis(POLLING_MILLIS))
+                .ignoring(WebDriverException.class)
+                .until(webDriver -> ((InteractsWithApps) webDriver).queryAppState(bundleId) == ApplicationState.RUNNING_IN_FOREGROUND
+                                    && isMet(condition.apply(webDriver)));
+
+        long millis = System.currentTimeMillis() - launchStart;
+        LongSummaryStatistics statistics = launchTimes.computeIfAbsent(bundleId, key -> new LongSummaryStatistics());
+        synchronized (statistics) {
+            statistics.accept(millis);
+        }
+        logger.info("App {} ready {} ms after launch", bundleId, millis);
+        return millis;
+    }
+
+    /**
+     * Summarizes the launch-to-ready times of the run.
+     *
+     * @return The number of launches, average and slowest time of each app, empty if no app was launched.
+     */
+    public static String getLaunchStatistics() {
+        return new TreeMap<>(launchTimes).entrySet().stream()
+                .map(entry -> {
+                    synchronized (entry.getValue()) {
+                        return "%s: %d launches, %.0f ms average, %d ms max".formatted(entry.getKey(),
+                                entry.getValue().getCount(), entry.getValue().getAverage(), entry.getValue().getMax());
+                    }
+                })
+                .collect(Collectors.joining("<br>"));
+    }
+
+    /**
+     * Locates any element of the app the user can tap, absent while a splash or launch screen is displayed.
+     */
+    private static By getInteractiveMarker(WebDriver driver, String bundleId) {
+        return driver instanceof IOSDriver
+                ? AppiumBy.iOSNsPredicateString("type == 'XCUIElementTypeButton' AND visible == 1")
+                : AppiumBy.androidUIAutomator("new UiSelector().packageName(\"%s\").clickable(true)".formatted(bundleId));
+    }
+
+    private static boolean isMet(Object result) {
+        return result != null && !Boolean.FALSE.equals(result);
+    }
+}
@@ -0,0 +1,220 @@
+package utility;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs independent verifications concurrently in isolated browser contexts of the same Chrome process.
+ * <p>
+ * Each context is created with CDP {@code Target.createBrowserContext} on the main driver, receives a copy of the
+ * main context's cookies (session and language) and gets its own tab. A worker ChromeDriver session attaches to the
+ * running browser through its debugger address and drives that tab, so the contexts do not share the WebDriver
+ * "current window" and can work at the same time. Only Chrome is supported; callers check {@link #isSupported(WebDriver)}
+ * and fall back to sequential verification.
+ */
+public class BrowserContextFanOut implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger();
+
+    // Cookie fields accepted by Storage.setCookies
+    private static final Set<String> COOKIE_PARAMS = Set.of("name", "value", "domain", "path", "secure", "httpOnly",
+            "sameSite", "expires", "priority", "sourceScheme", "sourcePort", "partitionKey");
+
+    private final ChromeDriver mainDriver;
+    private final List<String> contextIds = new ArrayList<>();
+    private final List<WebDriver> workers = new ArrayList<>();
+
+    /**
+     * Outcome of the verification of one partition.
+     *
+     * @param context The index of the browser context that ran the partition.
+     * @param items   The items of the partition.
+     * @param error   The assertion error or exception raised by the verification, or {@code null} if it passed.
+     * @param millis  The time spent on the partition.
+     */
+    public record Outcome<T>(int context, List<T> items, Throwable error, long millis) {
+        public boolean passed() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return "[Context %d] %s %s in %d ms%s".formatted(context, items, passed() ? "passed" : "failed", millis,
+                    passed() ? "" : ": " + error.getMessage());
+        }
+    }
+
+    private BrowserContextFanOut(ChromeDriver mainDriver) {
+        this.mainDriver = mainDriver;
+    }
+
+    /**
+     * Checks whether verifications can be fanned out from a driver.
+     *
+     * @param driver The main driver.
+     * @return {@code true} for a Chrome driver exposing its debugger address.
+     */
+    public static boolean isSupported(WebDriver driver) {
+        return driver instanceof ChromeDriver chromeDriver && getDebuggerAddress(chromeDriver) != null;
+    }
+
+    /**
+     * Opens isolated browser contexts next to the main driver's context.
+     *
+     * @param driver   The main driver, which must be {@link #isSupported(WebDriver) supported}.
+     * @param contexts The number of contexts to open.
+     * @return The fan-out, to be closed after use.
+     */
+    public static BrowserContextFanOut open(WebDriver driver, int contexts) {
+        ChromeDriver mainDriver = (ChromeDriver) driver;
+        BrowserContextFanOut fanOut = new BrowserContextFanOut(mainDriver);
+        String debuggerAddress = getDebuggerAddress(mainDriver);
+
+        // Session and language cookies of the main context, copied into every new context
+        List<Map<String, Object>> cookies = getCookies(mainDriver);
+
+        try {
+            for (int index = 0; index < contexts; index++) {
+                String contextId = (String) mainDriver.executeCdpCommand("Target.createBrowserContext",
+                        Map.of("disposeOnDetach", false)).get("browserContextId");
+                fanOut.contextIds.add(contextId);
+                mainDriver.executeCdpCommand("Storage.setCookies", Map.of("cookies", cookies, "browserContextId", contextId));
+                String targetId = (String) mainDriver.executeCdpCommand("Target.createTarget",
+                        Map.of("url", "about:blank", "browserContextId", contextId)).get("targetId");
+
+                fanOut.workers.add(attachWorker(debuggerAddress, targetId));
+            }
+        } catch (RuntimeException ex) {
+            fanOut.close();
+            throw ex;
+        }
+
+        logger.info("Opened {} isolated browser contexts", contexts);
+        return fanOut;
+    }
+
+    /**
+     * Retrieves all cookies of a browser context, in the form accepted by CDP {@code Storage.setCookies}.
+     *
+     * @param driver The driver of the browser context.
+     * @return The cookies, with the read-only fields removed.
+     */
+    @SuppressWarnings("unchecked")
+    static List<Map<String, Object>> getCookies(ChromiumDriver driver) {
+        return ((List<Map<String, Object>>) driver.executeCdpCommand("Storage.getCookies", Map.of()).get("cookies")).stream()
+                .map(cookie -> cookie.entrySet().stream()
+                        .filter(entry -> COOKIE_PARAMS.contains(entry.getKey()) && entry.getValue() != null)
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
+                .toList();
+    }
+
+    private static String getDebuggerAddress(ChromeDriver driver) {
+        return driver.getCapabilities().getCapability("goog:chromeOptions") instanceof Map<?, ?> chromeOptions
+                ? (String) chromeOptions.get("debuggerAddress")
+                : null;
+    }
+
+    /**
+     * Attaches a new ChromeDriver session to the running browser and switches it to the given tab.
+     */
+    private static WebDriver attachWorker(String debuggerAddress, String targetId) {
+        ChromeOptions options = new ChromeOptions();
+        options.setExperimentalOption("debuggerAddress", debuggerAddress);
+        WebDriver worker = new CommandTelemetry.Chrome(options);
+
+        String handle = worker.getWindowHandles().stream()
+                .filter(windowHandle -> windowHandle.endsWith(targetId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Tab of browser context not found: " + targetId));
+        worker.switchTo().window(handle);
+
+        NetworkActivityTracker.of(worker);
+        return worker;
+    }
+
+    /**
+     * Partitions the items among the contexts and verifies the partitions concurrently.
+     * Failures are collected, not thrown, so every partition runs to the end.
+     *
+     * @param items        The items to verify.
+     * @param verification Verifies a partition of items with the driver of a context.
+     * @return The outcome of each partition, in context order.
+     */
+    public <T> List<Outcome<T>> run(List<T> items, BiConsumer<WebDriver, List<T>> verification) {
+        // Round-robin partitions, so items of similar cost are spread evenly
+        List<List<T>> partitions = IntStream.range(0, workers.size())
+                .mapToObj(context -> IntStream.range(0, items.size())
+                        .filter(index -> index % workers.size() == context)
+                        .mapToObj(items::get)
+                        .toList())
+                .toList();
+
+        // Keep the test name of the calling thread in the worker logs
+        Map<String, String> logContext = ThreadContext.getImmutableContext();
+        try (ExecutorService executor = Executors.newFixedThreadPool(workers.size())) {
+            List<Future<Outcome<T>>> futures = IntStream.range(0, workers.size())
+                    .filter(context -> !partitions.get(context).isEmpty())
+                    .mapToObj(context -> executor.submit(() -> {
+                        ThreadContext.putAll(logContext);
+                        long start = System.currentTimeMillis();
+                        try {
+                            verification.accept(workers.get(context), partitions.get(context));
+                            return new Outcome<>(context, partitions.get(context), null, System.currentTimeMillis() - start);
+                        } catch (Throwable error) {
+                            return new Outcome<>(context, partitions.get(context), error, System.currentTimeMillis() - start);
+                        } finally {
+                            ThreadContext.clearMap();
+                        }
+                    }))
+                    .toList();
+
+            return futures.stream().map(future -> {
+                try {
+                    return future.get();
+                } catch (Exception ex) {
+                    throw new IllegalStateException("Browser context verification was interrupted", ex);
+                }
+            }).toList();
+        }
+    }
+
+    /**
+     * Detaches the worker sessions and disposes the browser contexts with their tabs.
+     * The main driver and the browser keep running.
+     */
+    @Override
+    public void close() {
+        // Sessions attached through the debugger address leave the browser running on quit
+        workers.forEach(worker -> {
+            try {
+                worker.quit();
+            } catch (RuntimeException ex) {
+                logger.debug("Failed to detach browser context session: {}", ex.getMessage());
+            }
+        });
+        contextIds.forEach(contextId -> {
+            try {
+                mainDriver.executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", contextId));
+            } catch (RuntimeException ex) {
+                logger.debug("Failed to dispose browser context {}: {}", contextId, ex.getMessage());
+            }
+        });
+        workers.clear();
+        contextIds.clear();
+    }
+}
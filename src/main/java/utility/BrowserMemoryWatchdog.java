@@ -0,0 +1,306 @@
+package utility;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jsoup.nodes.Entities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Watches the memory of the pooled browsers between tests and recycles a browser that grew too large.
+ * <p>
+ * Before each web test, {@link baseTest.BaseTest} asks the watchdog to sample the browser:
+ * <ul>
+ *     <li>JS heap: {@code JSHeapUsedSize} of the current page, from CDP {@code Performance.getMetrics}.</li>
+ *     <li>RSS: the resident memory of the browser process and its children, read from {@code /proc}.
+ *     Each process counts its proportional set size (PSS) from {@code smaps_rollup}, which splits shared pages among
+ *     the processes sharing them, so the sum is the real footprint of the browser. Kernels without
+ *     {@code smaps_rollup} fall back to the plain RSS, which counts shared pages once per process and overstates it.
+ *     Only available for local browsers on Linux.</li>
+ * </ul>
+ * When a sample crosses {@code browserMaxRssMb} or {@code browserMaxJsHeapMb}, the {@link BrowserSession} of the
+ * current page is captured, the browser is discarded from the {@link WebDriverPool} and the session is restored into
+ * a fresh browser, which reopens the same page, the way {@code DashboardLoginPage.loginDashboardByJs} logs in. The samples of the run are charted in the report.
+ * Only Chromium browsers are watched; set {@code browserMemoryWatchdog=off} to disable the watchdog.
+ */
+public class BrowserMemoryWatchdog {
+    private static final Logger logger = LogManager.getLogger();
+    private static final long MB = 1024 * 1024;
+    private static final long START_MILLIS = System.currentTimeMillis();
+
+    // Samples of the run, in sampling order
+    private static final List<Sample> samples = Collections.synchronizedList(new ArrayList<>());
+
+    // Browser process ids by driver, -1 when the process cannot be found
+    private static final Map<WebDriver, Long> browserPids = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final AtomicInteger recycles = new AtomicInteger();
+
+    /**
+     * Memory of a browser sampled before a test.
+     *
+     * @param browser     The session id of the browser.
+     * @param millis      The time of the sample since the start of the run.
+     * @param test        The test about to run.
+     * @param rssBytes    The resident memory of the browser processes, or -1 if unavailable.
+     * @param jsHeapBytes The JS heap used by the current page, or -1 if unavailable.
+     * @param recycled    Whether the browser was launched to replace a recycled one.
+     */
+    public record Sample(String browser, long millis, String test, long rssBytes, long jsHeapBytes, boolean recycled) {
+        @Override
+        public String toString() {
+            return "RSS %s, JS heap %s".formatted(toMegabytes(rssBytes), toMegabytes(jsHeapBytes));
+        }
+
+        private static String toMegabytes(long bytes) {
+            return bytes < 0 ? "n/a" : bytes / MB + " MB";
+        }
+    }
+
+    /**
+     * Checks whether the watchdog is enabled.
+     *
+     * @return {@code true} unless {@code browserMemoryWatchdog} is "off".
+     */
+    public static boolean isEnabled() {
+        return !PropertiesUtils.getBrowserMemoryWatchdog().equals("off");
+    }
+
+    /**
+     * Samples the memory of a browser before a test, and recycles the browser if a threshold is crossed.
+     *
+     * @param driver   The leased browser.
+     * @param nextTest The name of the test about to run.
+     * @return The same driver, or a fresh pooled browser carrying the same login session.
+     */
+    public static WebDriver check(WebDriver driver, String nextTest) {
+        if (!isEnabled() || !(driver instanceof ChromiumDriver chromiumDriver)) return driver;
+
+        Sample sample;
+        try {
+            sample = sample(chromiumDriver, nextTest, false);
+        } catch (RuntimeException ex) {
+            logger.debug("Failed to sample browser memory: {}", ex.getMessage());
+            return driver;
+        }
+        samples.add(sample);
+
+        String reason = getExceededThreshold(sample);
+        if (reason == null) return driver;
+
+        logger.info("Recycling browser before {}: {}", nextTest, reason);
+        return recycle(chromiumDriver, nextTest);
+    }
+
+    /**
+     * Retrieves the samples of the run.
+     *
+     * @return A copy of the samples, in sampling order.
+     */
+    public static List<Sample> getSamples() {
+        synchronized (samples) {
+            return List.copyOf(samples);
+        }
+    }
+
+    /**
+     * Retrieves the number of browsers recycled during the run.
+     *
+     * @return The number of recycles.
+     */
+    public static int getRecycles() {
+        return recycles.get();
+    }
+
+    private static Sample sample(ChromiumDriver driver, String test, boolean recycled) {
+        return new Sample(String.valueOf(driver.getSessionId()), System.currentTimeMillis() - START_MILLIS, test,
+                getProcessTreeRss(driver), getJsHeapUsed(driver), recycled);
+    }
+
+    /**
+     * Describes the threshold crossed by a sample.
+     *
+     * @return The description, or {@code null} if the sample is within the thresholds.
+     */
+    private static String getExceededThreshold(Sample sample) {
+        long maxRss = PropertiesUtils.getBrowserMaxRssMb() * MB;
+        long maxJsHeap = PropertiesUtils.getBrowserMaxJsHeapMb() * MB;
+        if (sample.rssBytes() > maxRss) return "RSS %d MB over %d MB".formatted(sample.rssBytes() / MB, maxRss / MB);
+        if (sample.jsHeapBytes() > maxJsHeap) return "JS heap %d MB over %d MB".formatted(sample.jsHeapBytes() / MB, maxJsHeap / MB);
+        return null;
+    }
+
+    /**
+     * Replaces a browser by a fresh pooled one carrying the same login session.
+     */
+    private static WebDriver recycle(ChromiumDriver driver, String nextTest) {
+        // Keep the login session of the page, unless the browser is not showing the application
+        BrowserSession session = driver.getCurrentUrl().startsWith("http") ? BrowserSession.capture(driver) : null;
+        WebDriverPool.discard(driver);
+        browserPids.remove(driver);
+
+        WebDriver replacement = WebDriverPool.lease();
+        if (session != null) {
+            session.restore(replacement);
+            replacement.get(session.getUrl());
+            logger.info("Restored session of recycled browser at {}", session.getUrl());
+        }
+        recycles.incrementAndGet();
+
+        if (replacement instanceof ChromiumDriver chromiumReplacement) {
+            try {
+                samples.add(sample(chromiumReplacement, nextTest, true));
+            } catch (RuntimeException ex) {
+                logger.debug("Failed to sample recycled browser memory: {}", ex.getMessage());
+            }
+        }
+        return replacement;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long getJsHeapUsed(ChromiumDriver driver) {
+        driver.executeCdpCommand("Performance.enable", Map.of());
+        List<Map<String, Object>> metrics = (List<Map<String, Object>>) driver.executeCdpCommand("Performance.getMetrics", Map.of())
+                .get("metrics");
+        return metrics.stream()
+                .filter(metric -> "JSHeapUsedSize".equals(metric.get("name")))
+                .mapToLong(metric -> ((Number) metric.get("value")).longValue())
+                .findFirst()
+                .orElse(-1);
+    }
+
+    /**
+     * Sums the resident memory of the browser process and its children (renderers, GPU, utilities),
+     * as proportional set sizes when the kernel provides them.
+     *
+     * @return The RSS in bytes, or -1 if the browser process is not a local Linux process.
+     */
+    private static long getProcessTreeRss(ChromiumDriver driver) {
+        if (!Files.isReadable(Path.of("/proc/self/status"))) return -1;
+
+        long pid = browserPids.computeIfAbsent(driver, key -> findBrowserPid(driver));
+        return ProcessHandle.of(pid)
+                .map(browser -> Stream.concat(Stream.of(browser), browser.descendants())
+                        .mapToLong(process -> readResidentMemory(process.pid()))
+                        .sum())
+                .orElse(-1L);
+    }
+
+    /**
+     * Finds the browser process among the processes started by the test JVM, by the user data directory
+     * that the driver reports and passes to every browser process.
+     */
+    private static long findBrowserPid(ChromiumDriver driver) {
+        String userDataDir = getUserDataDir(driver);
+        if (userDataDir == null) return -1;
+
+        String flag = "--user-data-dir=" + userDataDir;
+        return ProcessHandle.current().descendants()
+                .filter(process -> hasArgument(process, flag))
+                .filter(process -> process.parent().map(parent -> !hasArgument(parent, flag)).orElse(true))
+                .mapToLong(ProcessHandle::pid)
+                .findFirst()
+                .orElse(-1);
+    }
+
+    private static String getUserDataDir(RemoteWebDriver driver) {
+        for (String capability : List.of("chrome", "msedge")) {
+            if (driver.getCapabilities().getCapability(capability) instanceof Map<?, ?> browserInfo
+                    && browserInfo.get("userDataDir") instanceof String userDataDir) {
+                return userDataDir;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasArgument(ProcessHandle process, String argument) {
+        return process.info().arguments().map(arguments -> Arrays.asList(arguments).contains(argument)).orElse(false);
+    }
+
+    private static long readResidentMemory(long pid) {
+        Path processDirectory = Path.of("/proc", String.valueOf(pid));
+        return Files.isReadable(processDirectory.resolve("smaps_rollup"))
+                ? readMemoryField(processDirectory.resolve("smaps_rollup"), "Pss:")
+                : readMemoryField(processDirectory.resolve("status"), "VmRSS:");
+    }
+
+    private static long readMemoryField(Path file, String field) {
+        try (Stream<String> lines = Files.lines(file)) {
+            return lines.filter(line -> line.startsWith(field))
+                    .findFirst()
+                    .map(line -> Long.parseLong(line.replaceAll("\\D", "")) * 1024)
+                    .orElse(0L);
+        } catch (IOException | UncheckedIOException ex) {
+            // The process exited while reading
+            return 0;
+        }
+    }
+
+    /**
+     * Renders the samples of the run as an SVG chart: one solid RSS line and one dashed JS heap line per browser,
+     * the thresholds as horizontal lines and recycled browsers as dots.
+     *
+     * @return The SVG markup, or {@code null} if no sample was taken.
+     */
+    public static String renderChart() {
+        List<Sample> run = getSamples();
+        if (run.isEmpty()) return null;
+
+        int width = 900, height = 260, margin = 40;
+        long maxRss = PropertiesUtils.getBrowserMaxRssMb() * MB;
+        long maxJsHeap = PropertiesUtils.getBrowserMaxJsHeapMb() * MB;
+        boolean hasRss = run.stream().anyMatch(sample -> sample.rssBytes() >= 0);
+        double maxX = Math.max(1, run.stream().mapToLong(Sample::millis).max().orElse(1));
+        double maxY = run.stream().mapToLong(sample -> Math.max(sample.rssBytes(), sample.jsHeapBytes())).max().orElse(0);
+        maxY = Math.max(maxY, hasRss ? maxRss : maxJsHeap) * 1.1;
+
+        double scaleX = (width - 2 * margin) / maxX, scaleY = (height - 2 * margin) / maxY;
+        StringBuilder svg = new StringBuilder("<svg xmlns='http://www.w3.org/2000/svg' viewBox='0 0 %d %d' style='width:100%%;font:11px sans-serif'>"
+                .formatted(width, height));
+        svg.append("<line x1='%d' y1='%d' x2='%d' y2='%d' stroke='#999'/>".formatted(margin, height - margin, width - margin, height - margin));
+        svg.append("<line x1='%d' y1='%d' x2='%d' y2='%d' stroke='#999'/>".formatted(margin, margin, margin, height - margin));
+        svg.append("<text x='2' y='%d'>%d MB</text>".formatted(margin - 6, Math.round(maxY / MB)));
+        svg.append("<text x='%d' y='%d'>%.1f min</text>".formatted(width - margin - 30, height - margin + 16, maxX / 60000));
+
+        // Thresholds
+        for (long threshold : hasRss ? List.of(maxRss, maxJsHeap) : List.of(maxJsHeap)) {
+            double y = height - margin - threshold * scaleY;
+            svg.append("<line x1='%d' y1='%.1f' x2='%d' y2='%.1f' stroke='#e53935' stroke-dasharray='2,4'/>"
+                    .formatted(margin, y, width - margin, y));
+        }
+
+        // One RSS and one JS heap line per browser
+        String[] colors = {"#1e88e5", "#43a047", "#8e24aa", "#fb8c00", "#00897b", "#6d4c41"};
+        Map<String, List<Sample>> byBrowser = run.stream()
+                .collect(Collectors.groupingBy(Sample::browser, LinkedHashMap::new, Collectors.toList()));
+        int browserIndex = 0;
+        for (List<Sample> browserSamples : byBrowser.values()) {
+            String color = colors[browserIndex++ % colors.length];
+            String rssPoints = browserSamples.stream().filter(sample -> sample.rssBytes() >= 0)
+                    .map(sample -> "%.1f,%.1f".formatted(margin + sample.millis() * scaleX, height - margin - sample.rssBytes() * scaleY))
+                    .collect(Collectors.joining(" "));
+            String heapPoints = browserSamples.stream().filter(sample -> sample.jsHeapBytes() >= 0)
+                    .map(sample -> "%.1f,%.1f".formatted(margin + sample.millis() * scaleX, height - margin - sample.jsHeapBytes() * scaleY))
+                    .collect(Collectors.joining(" "));
+            svg.append("<polyline fill='none' stroke='%s' stroke-width='2' points='%s'/>".formatted(color, rssPoints));
+            svg.append("<polyline fill='none' stroke='%s' stroke-dasharray='5,3' points='%s'/>".formatted(color, heapPoints));
+            browserSamples.stream().filter(Sample::recycled).findFirst().ifPresent(sample ->
+                    svg.append("<circle cx='%.1f' cy='%d' r='4' fill='%s'><title>Recycled before %s</title></circle>"
+                            .formatted(margin + sample.millis() * scaleX, height - margin, color, Entities.escape(sample.test()))));
+        }
+
+        svg.append("<text x='%d' y='%d'>solid: RSS, dashed: JS heap, red: thresholds, dot: browser recycled (%d)</text>"
+                .formatted(margin, height - 8, getRecycles()));
+        return svg.append("</svg>").toString();
+    }
+}
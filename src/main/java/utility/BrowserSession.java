@@ -0,0 +1,228 @@
+package utility;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Authenticated storage state of a web application: the localStorage of its origin and the browser's cookies.
+ * <p>
+ * A session is captured from a logged-in page and saved under a key such as the account name, so each account
+ * logs in once per run. Cookies are read with all their attributes, HttpOnly authentication cookies included:
+ * through CDP {@code Storage.getCookies} on Chromium browsers, through WebDriver for the current domain otherwise.
+ * Restoring a saved session into another browser takes one call before the first navigation: on Chromium browsers
+ * the cookies are set through CDP and the localStorage is written by a script that runs before the page's own
+ * scripts, so the first page load is already authenticated. Other browsers load the origin once and write the state.
+ * A saved session is forgotten once one of its cookies has expired.
+ */
+public class BrowserSession {
+    private static final Logger logger = LogManager.getLogger();
+
+    // Saved sessions by key, shared by all threads
+    private static final Map<String, BrowserSession> sessions = new ConcurrentHashMap<>();
+
+    private static final String CAPTURE_SCRIPT = """
+            return {origin: location.origin, url: location.href, localStorage: Object.fromEntries(Object.entries(localStorage))};
+            """;
+
+    // Runs in every new document of the tab, writes the state once per tab
+    private static final String RESTORE_ON_NEW_DOCUMENT_SCRIPT = """
+            (() => {
+                const state = %s;
+                if (location.origin !== state.origin || sessionStorage.getItem('__sessionRestored')) return;
+                sessionStorage.setItem('__sessionRestored', '1');
+                Object.entries(state.localStorage).forEach(([key, value]) => localStorage.setItem(key, value));
+            })();
+            """;
+
+    private static final String APPLY_SCRIPT = "Object.entries(arguments[0]).forEach(([key, value]) => localStorage.setItem(key, value));";
+
+    private final String origin;
+    private final String url;
+    private final Map<String, Object> localStorage;
+    private final List<Cookie> cookies;
+
+    private BrowserSession(String origin, String url, Map<String, Object> localStorage, List<Cookie> cookies) {
+        this.origin = origin;
+        this.url = url;
+        this.localStorage = Map.copyOf(localStorage);
+        this.cookies = List.copyOf(cookies);
+    }
+
+    /**
+     * Creates a session from known values, e.g. tokens returned by a login API.
+     *
+     * @param origin       The origin of the application, such as {@code https://admin.example.com}.
+     * @param localStorage The localStorage items, items without a value are left out.
+     * @param cookies      The cookie values by name, set for the whole origin.
+     * @return The session.
+     */
+    public static BrowserSession of(String origin, Map<String, Object> localStorage, Map<String, String> cookies) {
+        Map<String, Object> items = new HashMap<>(localStorage);
+        items.values().removeIf(Objects::isNull);
+        return new BrowserSession(origin, origin, items, cookies.entrySet().stream()
+                .map(cookie -> new Cookie.Builder(cookie.getKey(), cookie.getValue()).path("/").build())
+                .toList());
+    }
+
+    /**
+     * Captures the session of the page displayed by a driver.
+     *
+     * @param driver The WebDriver instance displaying a page of the application.
+     * @return The session of the page's origin.
+     */
+    @SuppressWarnings("unchecked")
+    public static BrowserSession capture(WebDriver driver) {
+        Map<String, Object> state = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+        List<Cookie> cookies = driver instanceof ChromiumDriver chromiumDriver
+                ? BrowserContextFanOut.getCookies(chromiumDriver).stream().map(BrowserSession::fromCdp).toList()
+                : new ArrayList<>(driver.manage().getCookies());
+        return new BrowserSession((String) state.get("origin"), (String) state.get("url"),
+                (Map<String, Object>) state.get("localStorage"), cookies);
+    }
+
+    /**
+     * Retrieves a saved session.
+     *
+     * @param key The key the session was saved under.
+     * @return The session, or {@code null} if none was saved or its cookies have expired.
+     */
+    public static BrowserSession find(String key) {
+        BrowserSession session = sessions.get(key);
+        if (session != null && session.isExpired()) {
+            logger.info("Browser session '{}' has expired", key);
+            forget(key);
+            return null;
+        }
+        return session;
+    }
+
+    /**
+     * Saves a session for the rest of the run.
+     *
+     * @param key     The key to save the session under, typically the application and the account name.
+     * @param session The session.
+     */
+    public static void save(String key, BrowserSession session) {
+        sessions.put(key, session);
+        logger.info("Saved browser session '{}' ({} storage items, {} cookies)", key, session.localStorage.size(), session.cookies.size());
+    }
+
+    /**
+     * Forgets a saved session, e.g. when the application rejected it.
+     *
+     * @param key The key the session was saved under.
+     */
+    public static void forget(String key) {
+        sessions.remove(key);
+    }
+
+    /**
+     * Retrieves the URL of the page the session was captured on.
+     *
+     * @return The page URL, or the origin for sessions created with {@link #of(String, Map, Map)}.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Restores the session into a browser before it navigates to the application.
+     * The next page loaded from the session's origin is authenticated.
+     *
+     * @param driver The WebDriver instance to restore the session into.
+     */
+    public void restore(WebDriver driver) {
+        if (!(driver instanceof ChromiumDriver chromiumDriver)) {
+            driver.get(origin);
+            apply(driver);
+            return;
+        }
+
+        if (!cookies.isEmpty()) {
+            chromiumDriver.executeCdpCommand("Storage.setCookies", Map.of("cookies", cookies.stream().map(this::toCdp).toList()));
+        }
+        if (!localStorage.isEmpty()) {
+            chromiumDriver.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                    Map.of("source", RESTORE_ON_NEW_DOCUMENT_SCRIPT.formatted(toJson(Map.of("origin", origin, "localStorage", localStorage)))));
+        }
+    }
+
+    /**
+     * Writes the session into the page currently displayed: the localStorage in a single script, then the cookies.
+     * The page must belong to the session's origin and be reloaded to pick up the new state.
+     * Cookies of other domains cannot be set from the page and are skipped.
+     *
+     * @param driver The WebDriver instance displaying a page of the application.
+     */
+    public void apply(WebDriver driver) {
+        if (!localStorage.isEmpty()) ((JavascriptExecutor) driver).executeScript(APPLY_SCRIPT, localStorage);
+        for (Cookie cookie : cookies) {
+            try {
+                driver.manage().addCookie(cookie);
+            } catch (WebDriverException ex) {
+                logger.debug("Skipped cookie {} of domain {}: {}", cookie.getName(), cookie.getDomain(), ex.getMessage());
+            }
+        }
+    }
+
+    private boolean isExpired() {
+        Date now = new Date();
+        return cookies.stream().anyMatch(cookie -> cookie.getExpiry() != null && cookie.getExpiry().before(now));
+    }
+
+    /**
+     * Converts a cookie read through CDP, keeping its attributes.
+     */
+    private static Cookie fromCdp(Map<String, Object> cookie) {
+        // Session cookies have no expiry, reported as -1
+        double expires = cookie.get("expires") instanceof Number number ? number.doubleValue() : -1;
+        return new Cookie.Builder((String) cookie.get("name"), (String) cookie.get("value"))
+                .domain((String) cookie.get("domain"))
+                .path((String) cookie.get("path"))
+                .expiresOn(expires > 0 ? new Date((long) (expires * 1000)) : null)
+                .isSecure(Boolean.TRUE.equals(cookie.get("secure")))
+                .isHttpOnly(Boolean.TRUE.equals(cookie.get("httpOnly")))
+                .sameSite((String) cookie.get("sameSite"))
+                .build();
+    }
+
+    /**
+     * Converts a cookie to the parameters of CDP {@code Storage.setCookies}. Cookies without a domain are set for the origin.
+     */
+    private Map<String, Object> toCdp(Cookie cookie) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", cookie.getName());
+        params.put("value", cookie.getValue());
+        if (cookie.getDomain() != null) params.put("domain", cookie.getDomain());
+        else params.put("url", origin);
+        if (cookie.getPath() != null) params.put("path", cookie.getPath());
+        params.put("secure", cookie.isSecure());
+        params.put("httpOnly", cookie.isHttpOnly());
+        if (cookie.getExpiry() != null) params.put("expires", cookie.getExpiry().getTime() / 1000.0);
+        if (cookie.getSameSite() != null) params.put("sameSite", cookie.getSameSite());
+        return params;
+    }
+
+    private static String toJson(Object value) {
+        try {
+            return new ObjectMapper().writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error serializing browser session", e);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package utility;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.CommandPayload;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.safari.SafariDriver;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Records every WebDriver command sent by the web drivers of {@link WebDriverManager}: its type, locator,
+ * duration and outcome, attributed to the running test and to the {@link WebUtils#performAction} step.
+ * <p>
+ * The drivers are subclasses of the Selenium drivers that time {@code execute}, so they stay instances of
+ * {@link ChromeDriver}, {@link org.openqa.selenium.chromium.ChromiumDriver} etc. for the code relying on CDP.
+ * Element commands are attributed to the locator that found the element. Commands are aggregated, not kept:
+ * each test keeps counts by command type, by locator and by step, and its slowest commands.
+ * Set {@code commandTelemetry=off} to disable the recording.
+ */
+public class CommandTelemetry {
+    private static final Logger logger = LogManager.getLogger();
+    private static final String TEST_ID_KEY = "testId";
+    private static final int SLOWEST_COMMANDS = 5;
+
+    // Statistics by test method invocation (class, method and result); commands outside tests are not recorded per test
+    private static final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+
+    // Statistics of the whole run, for the locator hotspots of the suite
+    private static final Statistics runStatistics = new Statistics();
+
+    // Locators by element id, so element commands can be attributed to the locator that found the element
+    private static final Cache<String, String> elementLocators = CacheBuilder.newBuilder().maximumSize(10_000).build();
+
+    // Named step running on the current thread
+    private static final ThreadLocal<String> currentStep = new ThreadLocal<>();
+
+    private static final boolean enabled = !PropertiesUtils.getCommandTelemetry().equals("off");
+
+    /**
+     * A recorded WebDriver command.
+     *
+     * @param name    The command type, such as "findElement" or "clickElement".
+     * @param locator The locator of the searched or targeted element, or {@code null}.
+     * @param step    The named step running the command, or {@code null}.
+     * @param millis  The duration of the command.
+     * @param failed  Whether the command failed.
+     */
+    public record Command(String name, String locator, String step, long millis, boolean failed) {
+        @Override
+        public String toString() {
+            return "%s%s %d ms%s%s".formatted(name, locator == null ? "" : " (" + locator + ")", millis,
+                    step == null ? "" : " in '" + step + "'", failed ? " [failed]" : "");
+        }
+    }
+
+    /**
+     * Aggregated commands of a test or of the run.
+     */
+    public static class Statistics {
+        private int commands;
+        private int failures;
+        private long millis;
+        private final Map<String, Integer> countsByType = new TreeMap<>();
+        private final Map<String, long[]> locatorTotals = new HashMap<>();
+        private final Map<String, long[]> stepTotals = new HashMap<>();
+        private final PriorityQueue<Command> slowest = new PriorityQueue<>(Comparator.comparingLong(Command::millis));
+
+        private synchronized void add(Command command) {
+            commands++;
+            millis += command.millis();
+            if (command.failed()) failures++;
+            countsByType.merge(command.name(), 1, Integer::sum);
+            if (command.locator() != null) accumulate(locatorTotals, command.locator(), command.millis());
+            if (command.step() != null) accumulate(stepTotals, command.step(), command.millis());
+
+            slowest.offer(command);
+            if (slowest.size() > SLOWEST_COMMANDS) slowest.poll();
+        }
+
+        private static void accumulate(Map<String, long[]> totals, String key, long millis) {
+            long[] total = totals.computeIfAbsent(key, k -> new long[2]);
+            total[0]++;
+            total[1] += millis;
+        }
+
+        /**
+         * Retrieves the number of recorded commands.
+         *
+         * @return The number of commands.
+         */
+        public synchronized int getCommands() {
+            return commands;
+        }
+
+        /**
+         * Retrieves the slowest commands.
+         *
+         * @return Up to 5 commands, slowest first.
+         */
+        public synchronized List<Command> getSlowestCommands() {
+            return slowest.stream().sorted(Comparator.comparingLong(Command::millis).reversed()).toList();
+        }
+
+        /**
+         * Retrieves the locators whose commands took the most time.
+         *
+         * @param limit The maximum number of locators.
+         * @return The locators with their command count and total time, most expensive first.
+         */
+        public synchronized List<String> getLocatorHotspots(int limit) {
+            return top(locatorTotals, limit);
+        }
+
+        /**
+         * Retrieves the named steps whose commands took the most time.
+         *
+         * @param limit The maximum number of steps.
+         * @return The steps with their command count and total time, most expensive first.
+         */
+        public synchronized List<String> getStepHotspots(int limit) {
+            return top(stepTotals, limit);
+        }
+
+        private static List<String> top(Map<String, long[]> totals, int limit) {
+            return totals.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[1]).reversed())
+                    .limit(limit)
+                    .map(entry -> "%s: %d commands, %d ms".formatted(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                    .toList();
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "%d commands in %d ms, %d failed (%s)".formatted(commands, millis, failures,
+                    countsByType.entrySet().stream()
+                            .map(entry -> entry.getKey() + " " + entry.getValue())
+                            .collect(Collectors.joining(", ")));
+        }
+    }
+
+    /**
+     * Returns the command statistics of the test running on the current thread.
+     * Commands sent by worker threads of the test, such as the browser contexts of {@link BrowserContextFanOut}, are included.
+     *
+     * @return The statistics since the last {@link #resetStatistics()}, empty outside a test.
+     */
+    public static Statistics getStatistics() {
+        String testId = ThreadContext.get(TEST_ID_KEY);
+        return testId == null ? new Statistics() : statistics.computeIfAbsent(testId, key -> new Statistics());
+    }
+
+    /**
+     * Resets the command statistics of the test running on the current thread, typically at its start and end.
+     */
+    public static void resetStatistics() {
+        String testId = ThreadContext.get(TEST_ID_KEY);
+        if (testId != null) statistics.remove(testId);
+    }
+
+    /**
+     * Returns the command statistics of the whole run.
+     *
+     * @return The statistics of every recorded command.
+     */
+    public static Statistics getRunStatistics() {
+        return runStatistics;
+    }
+
+    /**
+     * Runs a named step, attributing the commands it sends to the step.
+     *
+     * @param step   The description of the step.
+     * @param action The step.
+     */
+    public static void runStep(String step, Runnable action) {
+        String parentStep = currentStep.get();
+        currentStep.set(step);
+        try {
+            action.run();
+        } finally {
+            if (parentStep == null) currentStep.remove();
+            else currentStep.set(parentStep);
+        }
+    }
+
+    /**
+     * Times a command and records it.
+     *
+     * @param payload The command.
+     * @param execute Sends the command to the driver.
+     * @return The response of the driver.
+     */
+    private static Response record(CommandPayload payload, Supplier<Response> execute) {
+        if (!enabled) return execute.get();
+
+        long start = System.nanoTime();
+        Response response = null;
+        try {
+            response = execute.get();
+            return response;
+        } finally {
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            Command command = new Command(getName(payload), getLocator(payload), currentStep.get(), millis, response == null);
+            if (response != null) rememberFoundElements(command, response.getValue());
+
+            logger.trace("WebDriver command: {}", command);
+            runStatistics.add(command);
+            String testId = ThreadContext.get(TEST_ID_KEY);
+            if (testId != null) statistics.computeIfAbsent(testId, key -> new Statistics()).add(command);
+        }
+    }
+
+    private static String getName(CommandPayload payload) {
+        return payload.getName().equals("executeCdpCommand")
+                ? "executeCdpCommand " + payload.getParameters().get("cmd")
+                : payload.getName();
+    }
+
+    private static String getLocator(CommandPayload payload) {
+        Map<String, ?> parameters = payload.getParameters();
+        if (parameters.get("using") != null && parameters.get("value") != null) {
+            return "%s: %s".formatted(parameters.get("using"), parameters.get("value"));
+        }
+        return parameters.get("id") instanceof String elementId ? elementLocators.getIfPresent(elementId) : null;
+    }
+
+    private static void rememberFoundElements(Command command, Object value) {
+        if (command.locator() == null || !command.name().startsWith("find")) return;
+
+        List<?> elements = value instanceof List<?> list ? list : List.of(value);
+        for (Object element : elements) {
+            if (element instanceof RemoteWebElement remoteElement) elementLocators.put(remoteElement.getId(), command.locator());
+        }
+    }
+
+    /**
+     * Chrome driver recording its commands.
+     */
+    public static class Chrome extends ChromeDriver {
+        public Chrome(ChromeOptions options) {
+            super(options);
+        }
+
+        @Override
+        protected Response execute(CommandPayload payload) {
+            return record(payload, () -> super.execute(payload));
+        }
+    }
+
+    /**
+     * Edge driver recording its commands.
+     */
+    public static class Edge extends EdgeDriver {
+        public Edge(EdgeOptions options) {
+            super(options);
+        }
+
+        @Override
+        protected Response execute(CommandPayload payload) {
+            return record(payload, () -> super.execute(payload));
+        }
+    }
+
+    /**
+     * Firefox driver recording its commands.
+     */
+    public static class Firefox extends FirefoxDriver {
+        public Firefox(FirefoxOptions options) {
+            super(options);
+        }
+
+        @Override
+        protected Response execute(CommandPayload payload) {
+            return record(payload, () -> super.execute(payload));
+        }
+    }
+
+    /**
+     * Safari driver recording its commands.
+     */
+    public static class Safari extends SafariDriver {
+        @Override
+        protected Response execute(CommandPayload payload) {
+            return record(payload, () -> super.execute(payload));
+        }
+    }
+}
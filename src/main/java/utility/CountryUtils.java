@@ -11,25 +11,63 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Random;
-import java.util.stream.IntStream;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import static org.apache.commons.lang.math.RandomUtils.nextInt;
 
 public class CountryUtils {
 
     private static final String COUNTRY_CODES_FILE = "country/CountryCodes.json";
-    private static final JsonNode countryData;
+
+    /**
+     * Country entry loaded from the JSON data.
+     *
+     * @param name        The country name.
+     * @param phoneCode   The phone code without the leading "+".
+     * @param countryCode The ISO country code.
+     * @param phoneRegex  The regex of valid phone numbers, or {@code null} for territories without phone numbers.
+     */
+    private record Country(String name, String phoneCode, String countryCode, String phoneRegex) {
+    }
+
+    // Country table indexed by name and by upper-case country code
+    private static final Map<String, Country> countriesByName;
+    private static final Map<String, Country> countriesByCode;
+    private static final List<String> countryNames;
+    private static final List<String> randomCandidates;
+
+    // Phone generators per regex; Generex is not thread-safe, so each thread keeps its own compiled instance
+    private static final Map<String, ThreadLocal<Generex>> phoneGenerators = new ConcurrentHashMap<>();
 
     static {
+        JsonNode countryData;
         try {
             countryData = new ObjectMapper().readTree(readFileToString());
         } catch (IOException | URISyntaxException e) {
             throw new RuntimeException(e);
         }
+
+        Map<String, Country> byName = new LinkedHashMap<>();
+        Map<String, Country> byCode = new HashMap<>();
+        countryData.fields().forEachRemaining(entry -> {
+            String name = entry.getKey();
+            JsonNode node = entry.getValue();
+            Country country = new Country(name,
+                    getRequiredText(node, name, "phoneCode"),
+                    getRequiredText(node, name, "countryCode"),
+                    node.hasNonNull("phoneRegex") ? node.get("phoneRegex").asText() : null);
+            byName.put(name, country);
+            byCode.putIfAbsent(country.countryCode().toUpperCase(), country);
+        });
+
+        countriesByName = Collections.unmodifiableMap(byName);
+        countriesByCode = Collections.unmodifiableMap(byCode);
+        countryNames = List.copyOf(byName.keySet());
+        randomCandidates = countryNames.stream()
+                .filter(country -> !country.equalsIgnoreCase("Vietnam"))
+                .toList();
     }
 
 
@@ -45,16 +83,30 @@ public class CountryUtils {
         return FileUtils.readFileToString(new File(url.toURI()), StandardCharsets.UTF_8);
     }
 
+    /**
+     * Reads a mandatory text attribute of a country node.
+     *
+     * @param countryNode The JSON node of the country.
+     * @param country     The name of the country.
+     * @param attribute   The attribute to read (e.g., "phoneCode").
+     * @return The attribute value.
+     * @throws IllegalArgumentException if the attribute is missing.
+     */
+    private static String getRequiredText(JsonNode countryNode, String country, String attribute) {
+        JsonNode attributeNode = countryNode.get(attribute);
+        if (attributeNode == null) {
+            throw new IllegalArgumentException("Attribute '" + attribute + "' not found for country: " + country);
+        }
+        return attributeNode.asText();
+    }
+
     /**
      * Returns a list of all countries available in the JSON data.
      *
-     * @return A list of country names.
+     * @return An unmodifiable list of country names.
      */
     public static List<String> getCountryList() {
-        Iterator<String> fieldNames = countryData.fieldNames();
-        List<String> countries = new ArrayList<>();
-        fieldNames.forEachRemaining(countries::add);
-        return countries;
+        return countryNames;
     }
 
     /**
@@ -63,39 +115,28 @@ public class CountryUtils {
      * @return A randomly selected country name, or throws an exception if no valid countries are available.
      */
     public static String randomCountry() {
-        // Get the list of countries and filter out "Vietnam"
-        List<String> availableCountries = getCountryList()
-                .stream()
-                .filter(country -> !country.equalsIgnoreCase("Vietnam"))
-                .toList();
-
         // Validate the filtered list
-        if (availableCountries.isEmpty()) {
+        if (randomCandidates.isEmpty()) {
             throw new IllegalStateException("No countries available for selection.");
         }
 
         // Select a random country from the filtered list
-        return availableCountries.get(nextInt(availableCountries.size()));
+        return randomCandidates.get(nextInt(randomCandidates.size()));
     }
 
-
     /**
-     * Fetches a specific attribute (e.g., phoneCode, countryCode, phoneRegex) for a given country.
+     * Looks up a country by its name.
      *
-     * @param country  The name of the country.
-     * @param attribute The attribute to fetch (e.g., "phoneCode").
-     * @return The value of the requested attribute, or null if not found.
+     * @param country The name of the country.
+     * @return The country entry.
+     * @throws IllegalArgumentException if the country is not found.
      */
-    private static String getCountryAttribute(String country, String attribute) {
-        JsonNode countryNode = countryData.get(country);
-        if (countryNode == null) {
+    private static Country getCountry(String country) {
+        Country entry = countriesByName.get(country);
+        if (entry == null) {
             throw new IllegalArgumentException("Country not found: " + country);
         }
-        JsonNode attributeNode = countryNode.get(attribute);
-        if (attributeNode == null) {
-            throw new IllegalArgumentException("Attribute '" + attribute + "' not found for country: " + country);
-        }
-        return attributeNode.asText();
+        return entry;
     }
 
     /**
@@ -105,7 +146,7 @@ public class CountryUtils {
      * @return The phone code (e.g., +84) for the given country.
      */
     public static String getPhoneCode(String country) {
-        return "+" + getCountryAttribute(country, "phoneCode");
+        return "+" + getCountry(country).phoneCode();
     }
 
     /**
@@ -115,7 +156,7 @@ public class CountryUtils {
      * @return The country code (e.g., VN) for the given country.
      */
     public static String getCountryCode(String country) {
-        return getCountryAttribute(country, "countryCode");
+        return getCountry(country).countryCode();
     }
 
     /**
@@ -126,12 +167,11 @@ public class CountryUtils {
      * @throws IllegalArgumentException If no country matches the given code.
      */
     public static String getCountryNameByCode(String countryCode) {
-        return getCountryList().stream()
-                .filter(country -> getCountryCode(country).equalsIgnoreCase(countryCode))
-                .findFirst()
-                .orElseThrow(() ->
-                        new IllegalArgumentException("No country found with the code '%s'".formatted(countryCode))
-                );
+        Country country = countriesByCode.get(countryCode.toUpperCase());
+        if (country == null) {
+            throw new IllegalArgumentException("No country found with the code '%s'".formatted(countryCode));
+        }
+        return country.name();
     }
 
 
@@ -140,23 +180,31 @@ public class CountryUtils {
      *
      * @param country The name of the country.
      * @return The phone regex for validating or generating phone numbers for the given country.
+     * @throws IllegalArgumentException if the country has no phone regex.
      */
     public static String getPhoneRegex(String country) {
-        return getCountryAttribute(country, "phoneRegex");
+        String phoneRegex = getCountry(country).phoneRegex();
+        if (phoneRegex == null) {
+            throw new IllegalArgumentException("Attribute 'phoneRegex' not found for country: " + country);
+        }
+        return phoneRegex;
     }
 
     /**
      * Generates a random phone number based on the provided regex.
+     * The regex is compiled once per thread and reused for subsequent calls.
      *
      * @param regex The regex pattern to generate the phone number.
      * @return A random valid phone number.
      */
     public static String generatePhoneFromRegex(String regex) {
-        Generex generex = new Generex(regex);
-        return IntStream.range(0, 1000).parallel()
-                .mapToObj(ignored -> generex.random())
+        Generex generex = phoneGenerators
+                .computeIfAbsent(regex, key -> ThreadLocal.withInitial(() -> new Generex(key)))
+                .get();
+        return Stream.generate(generex::random)
+                .limit(1000)
                 .filter(phone -> phone.matches("\\d+"))
-                .findAny()
+                .findFirst()
                 .orElseThrow(() -> new RuntimeException("Failed to generate a valid phone number from regex: " + regex));
     }
 
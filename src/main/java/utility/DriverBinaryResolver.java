@@ -0,0 +1,192 @@
+package utility;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves browser driver binaries once per machine and browser version.
+ * <p>
+ * The first resolution of a browser goes through {@code io.github.bonigarcia.wdm.WebDriverManager}
+ * (version lookup and download) and records the driver path in a local manifest, together with the browser
+ * binary and its modification time. Later resolutions, in this JVM or the next ones, read the manifest and only
+ * check that the driver still exists and the browser has not been updated, so they work fully offline.
+ * The resolved path is exported through the {@code webdriver.<browser>.driver} system property.
+ */
+public class DriverBinaryResolver {
+    private static final Logger logger = LogManager.getLogger();
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    // Manifest entries without a known browser binary are trusted for this long
+    private static final Duration UNKNOWN_BROWSER_MAX_AGE = Duration.ofDays(1);
+
+    // Browsers already resolved in this JVM
+    private static final Map<String, ManifestEntry> resolvedDrivers = new ConcurrentHashMap<>();
+
+    // Total time saved by manifest hits compared to the recorded cold resolution time
+    private static final AtomicLong timeSavedNanos = new AtomicLong();
+
+    /**
+     * Manifest entry describing the driver resolved for a browser.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ManifestEntry {
+        private String driverPath;
+        private String browserPath;
+        private long browserModified;
+        private long resolvedAt;
+        private long resolveMillis;
+    }
+
+    /**
+     * Resolves the driver binary of a browser and exports it for Selenium.
+     *
+     * @param browser The browser name: "chrome", "firefox" or "edge".
+     */
+    public static void resolve(String browser) {
+        ManifestEntry resolved = resolvedDrivers.get(browser);
+        if (resolved != null) {
+            // Each launch used to pay a full WebDriverManager resolution
+            timeSavedNanos.addAndGet(Duration.ofMillis(resolved.getResolveMillis()).toNanos());
+            return;
+        }
+        resolvedDrivers.computeIfAbsent(browser, DriverBinaryResolver::resolveDriverPath);
+    }
+
+    /**
+     * Returns the total driver resolution time saved by the manifest since the JVM started.
+     *
+     * @return The saved time in milliseconds.
+     */
+    public static long getTimeSavedMillis() {
+        return Duration.ofNanos(timeSavedNanos.get()).toMillis();
+    }
+
+    private static ManifestEntry resolveDriverPath(String browser) {
+        long start = System.nanoTime();
+        Path manifestPath = Path.of(PropertiesUtils.getDriverManifestPath());
+
+        synchronized (DriverBinaryResolver.class) {
+            Map<String, ManifestEntry> manifest = readManifest(manifestPath);
+            ManifestEntry entry = manifest.get(browser);
+
+            if (entry != null && isValid(entry)) {
+                exportDriverPath(browser, entry.getDriverPath());
+                long elapsed = System.nanoTime() - start;
+                long saved = Math.max(0, Duration.ofMillis(entry.getResolveMillis()).toNanos() - elapsed);
+                timeSavedNanos.addAndGet(saved);
+                logger.info("Resolved {} driver from manifest in {} µs, saved about {} ms",
+                        browser, elapsed / 1_000, Duration.ofNanos(saved).toMillis());
+                return entry;
+            }
+
+            // Cold resolution through WebDriverManager
+            io.github.bonigarcia.wdm.WebDriverManager wdm = newWebDriverManager(browser);
+            wdm.setup();
+            String driverPath = wdm.getDownloadedDriverPath();
+            Path browserPath = wdm.getBrowserPath().orElse(null);
+            long resolveMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            ManifestEntry resolved = new ManifestEntry(driverPath,
+                    browserPath == null ? null : browserPath.toString(),
+                    lastModified(browserPath),
+                    System.currentTimeMillis(),
+                    resolveMillis);
+            manifest.put(browser, resolved);
+            writeManifest(manifestPath, manifest);
+            logger.info("Resolved {} driver through WebDriverManager in {} ms: {}", browser, resolveMillis, driverPath);
+            return resolved;
+        }
+    }
+
+    private static io.github.bonigarcia.wdm.WebDriverManager newWebDriverManager(String browser) {
+        return switch (browser) {
+            case "firefox" -> io.github.bonigarcia.wdm.WebDriverManager.firefoxdriver();
+            case "edge" -> io.github.bonigarcia.wdm.WebDriverManager.edgedriver();
+            case "chrome" -> io.github.bonigarcia.wdm.WebDriverManager.chromedriver();
+            default -> throw new IllegalArgumentException("Unsupported browser for driver resolution: " + browser);
+        };
+    }
+
+    /**
+     * Exports the driver path through the system property read by Selenium, so Selenium Manager is skipped too.
+     */
+    private static void exportDriverPath(String browser, String driverPath) {
+        String property = switch (browser) {
+            case "firefox" -> "webdriver.gecko.driver";
+            case "edge" -> "webdriver.edge.driver";
+            default -> "webdriver.chrome.driver";
+        };
+        System.setProperty(property, driverPath);
+    }
+
+    /**
+     * Checks that the recorded driver still exists and was resolved for the currently installed browser.
+     *
+     * @param entry The manifest entry.
+     * @return {@code true} if the entry can be used without a new resolution.
+     */
+    private static boolean isValid(ManifestEntry entry) {
+        if (entry.getDriverPath() == null || !Files.isExecutable(Path.of(entry.getDriverPath()))) return false;
+
+        // Browser binary unknown: trust the entry for a limited time only
+        if (entry.getBrowserPath() == null) {
+            return System.currentTimeMillis() - entry.getResolvedAt() < UNKNOWN_BROWSER_MAX_AGE.toMillis();
+        }
+
+        // Browser updated since the resolution
+        return lastModified(Path.of(entry.getBrowserPath())) == entry.getBrowserModified();
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return path == null ? 0 : Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+
+    private static Map<String, ManifestEntry> readManifest(Path manifestPath) {
+        if (!Files.exists(manifestPath)) return new HashMap<>();
+        try {
+            return mapper.readValue(manifestPath.toFile(), new TypeReference<HashMap<String, ManifestEntry>>() {
+            });
+        } catch (IOException ex) {
+            logger.warn("Ignoring unreadable driver manifest {}: {}", manifestPath, ex.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Writes the manifest through a temporary file and an atomic rename, so concurrent JVMs never read a partial file.
+     */
+    private static void writeManifest(Path manifestPath, Map<String, ManifestEntry> manifest) {
+        try {
+            Path directory = manifestPath.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, "driver-manifest", ".tmp");
+            mapper.writeValue(tempFile.toFile(), manifest);
+            Files.move(tempFile, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            logger.warn("Failed to save driver manifest {}: {}", manifestPath, ex.getMessage());
+        }
+    }
+}
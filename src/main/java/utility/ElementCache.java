@@ -0,0 +1,181 @@
+package utility;
+
+import lombok.Getter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Per-page cache of the elements found by {@link WebUtils#getElement(By, int)}, keyed by locator and index.
+ * <p>
+ * A MutationObserver injected in the page tracks changes since the last lookup:
+ * <ul>
+ *     <li>Added or removed nodes anywhere in the page invalidate every entry, since they can change what a locator matches.</li>
+ *     <li>Attribute and text changes only invalidate the entries whose element contains the changed node or lies inside it.
+ *     Every attribute is observed, as page objects locate elements by state such as {@code checked}, {@code selected},
+ *     {@code aria-*} and {@code data-*} attributes.</li>
+ *     <li>A new page (navigation or reload) comes with a new observer and invalidates every entry.</li>
+ * </ul>
+ * The check runs in the script that {@link WebUtils} already executes before each lookup, so repeated access to a stable
+ * element costs no additional WebDriver command and no element search. Set {@code elementCache=off} to disable it.
+ */
+public class ElementCache {
+    private static final Logger logger = LogManager.getLogger();
+
+    // Caches by driver, shared by all page objects using the same browser
+    private static final Map<WebDriver, ElementCache> caches = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Cache hits and element searches of the current thread, reported per test
+    private static final ThreadLocal<Statistics> statistics = ThreadLocal.withInitial(Statistics::new);
+
+    private static final String SYNC_SCRIPT = """
+            const elements = arguments[0];
+            localStorage.setItem('awareMode', '0');
+            let cache = window.__elementCache;
+            if (!cache) {
+                cache = window.__elementCache = {id: Math.random().toString(36).slice(2), generation: 0, dirty: new Set()};
+                new MutationObserver(records => {
+                    for (const record of records) {
+                        if (record.type === 'childList') cache.generation++;
+                        else cache.dirty.add(record.target.nodeType === Node.ELEMENT_NODE ? record.target : record.target.parentElement);
+                    }
+                }).observe(document, {childList: true, subtree: true, characterData: true, attributes: true});
+            }
+            const affected = [];
+            elements.forEach((el, i) => {
+                if (!el.isConnected) {
+                    affected.push(i);
+                    return;
+                }
+                for (const node of cache.dirty) {
+                    if (node && (el.contains(node) || node.contains(el))) {
+                        affected.push(i);
+                        break;
+                    }
+                }
+            });
+            cache.dirty.clear();
+            return {id: cache.id, generation: cache.generation, affected: affected};
+            """;
+
+    private final WebDriver driver;
+    private final Map<Key, WebElement> entries = new LinkedHashMap<>();
+    private String pageId;
+    private long generation = -1;
+
+    private record Key(By locator, int index) {
+    }
+
+    private ElementCache(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Retrieves the element cache of a driver.
+     *
+     * @param driver The driver.
+     * @return The cache, or {@code null} if caching is disabled or the driver cannot run scripts.
+     */
+    public static ElementCache of(WebDriver driver) {
+        if (!PropertiesUtils.getElementCache().equals("on") || !(driver instanceof JavascriptExecutor)) return null;
+        return caches.computeIfAbsent(driver, ElementCache::new);
+    }
+
+    /**
+     * Number of cache hits and element searches of a thread.
+     */
+    @Getter
+    public static class Statistics {
+        private int hits;
+        private int lookups;
+
+        @Override
+        public String toString() {
+            return "%d hits, %d lookups".formatted(hits, lookups);
+        }
+    }
+
+    /**
+     * Returns the cache statistics of the current thread.
+     *
+     * @return The statistics since the last {@link #resetStatistics()}.
+     */
+    public static Statistics getStatistics() {
+        return statistics.get();
+    }
+
+    /**
+     * Resets the cache statistics of the current thread, typically at the start of a test.
+     */
+    public static void resetStatistics() {
+        statistics.remove();
+    }
+
+    /**
+     * Returns the cached element for a locator and index if it is still valid, or looks it up and caches it.
+     *
+     * @param locator The locator of the element.
+     * @param index   The index of the element if multiple elements match the locator.
+     * @param lookup  Searches the element when the cache has no valid entry.
+     * @return The element.
+     */
+    public synchronized WebElement get(By locator, int index, Supplier<WebElement> lookup) {
+        sync();
+
+        Key key = new Key(locator, index);
+        WebElement element = entries.get(key);
+        if (element != null) {
+            statistics.get().hits++;
+            return element;
+        }
+
+        element = lookup.get();
+        statistics.get().lookups++;
+        entries.put(key, element);
+        return element;
+    }
+
+    /**
+     * Drops the entries invalidated by page changes since the last call.
+     */
+    @SuppressWarnings("unchecked")
+    private void sync() {
+        List<Key> keys = new ArrayList<>(entries.keySet());
+        Map<String, Object> result;
+        try {
+            result = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(SYNC_SCRIPT,
+                    keys.stream().map(entries::get).toList());
+        } catch (StaleElementReferenceException ex) {
+            // A cached element is gone and cannot even be passed to the page
+            entries.clear();
+            keys.clear();
+            result = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(SYNC_SCRIPT, List.of());
+        }
+
+        String currentPageId = String.valueOf(result.get("id"));
+        long currentGeneration = ((Number) result.get("generation")).longValue();
+        if (!currentPageId.equals(pageId) || currentGeneration != generation) {
+            if (!entries.isEmpty()) logger.debug("Page structure changed, dropping {} cached elements", entries.size());
+            entries.clear();
+            pageId = currentPageId;
+            generation = currentGeneration;
+            return;
+        }
+
+        for (Object affected : (List<Object>) result.get("affected")) {
+            entries.remove(keys.get(((Number) affected).intValue()));
+        }
+    }
+}
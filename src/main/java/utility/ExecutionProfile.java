@@ -0,0 +1,106 @@
+package utility;
+
+import org.apache.logging.log4j.LogManager;
+
+import java.util.List;
+
+import static utility.ActionDecorators.*;
+
+/**
+ * Execution profile applied to every UI action of {@link WebUtils}, {@link AndroidUtils} and {@link IOSUtils}.
+ * <p>
+ * Each action runs through the chain of {@link ActionDecorator}s of the selected profile:
+ * <ul>
+ *     <li>"debug": every step is logged with its duration, web elements are highlighted before the action
+ *     and a screenshot is attached to the report after each step.</li>
+ *     <li>"standard" (default): named steps are logged and clicked elements are briefly highlighted.</li>
+ *     <li>"throughput": no logging, highlighting or screenshots, only the action itself.</li>
+ * </ul>
+ * The profile is selected by {@link ListenerUtils} from the {@code -DexecutionProfile} system property,
+ * the {@code executionProfile} suite parameter or the {@code executionProfile} property, in that order.
+ */
+public enum ExecutionProfile {
+    DEBUG(false, List.of(verboseLogging(), highlighting(500), stepScreenshots())),
+    STANDARD(true, List.of(namedStepLogging())),
+    THROUGHPUT(false, List.of());
+
+    // Profile of the running suite
+    private static volatile ExecutionProfile current = fromName(PropertiesUtils.getExecutionProfile());
+
+    // Whether WebUtils and the InteractionEngine highlight the element as part of the action itself
+    private final boolean inlineHighlight;
+    private final List<ActionDecorator> decorators;
+
+    ExecutionProfile(boolean inlineHighlight, List<ActionDecorator> decorators) {
+        this.inlineHighlight = inlineHighlight;
+        this.decorators = decorators;
+    }
+
+    /**
+     * Retrieves the profile of the running suite.
+     *
+     * @return The current execution profile.
+     */
+    public static ExecutionProfile current() {
+        return current;
+    }
+
+    /**
+     * Selects the profile used by all subsequent actions.
+     *
+     * @param name The profile name: "debug", "standard" or "throughput".
+     * @return The selected profile.
+     * @throws IllegalArgumentException if the name is not a known profile.
+     */
+    public static ExecutionProfile select(String name) {
+        current = fromName(name);
+        LogManager.getLogger().info("Execution profile: {}", current.getName());
+        return current;
+    }
+
+    private static ExecutionProfile fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown execution profile: " + name, ex);
+        }
+    }
+
+    /**
+     * Retrieves the name of the profile as used in the configuration and the report.
+     *
+     * @return The lower-case profile name.
+     */
+    public String getName() {
+        return name().toLowerCase();
+    }
+
+    /**
+     * Checks whether the action itself highlights its target element, at no extra WebDriver command
+     * for script interactions.
+     *
+     * @return {@code true} if elements are highlighted inline.
+     */
+    public boolean isInlineHighlight() {
+        return inlineHighlight;
+    }
+
+    /**
+     * Runs an action through the decorator chain of the profile.
+     *
+     * @param step   The step being performed.
+     * @param action The action to perform.
+     */
+    public void run(ActionDecorator.Step step, Runnable action) {
+        Runnable chain = action;
+        for (int i = decorators.size() - 1; i >= 0; i--) {
+            ActionDecorator decorator = decorators.get(i);
+            Runnable next = chain;
+            chain = () -> decorator.around(step, next);
+        }
+
+        // Attribute the WebDriver commands of named steps to the step
+        if (step.hasTarget()) chain.run();
+        else CommandTelemetry.runStep(step.name(), chain);
+    }
+}
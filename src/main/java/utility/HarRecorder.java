@@ -0,0 +1,324 @@
+package utility;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.CountingOutputStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the network traffic of a test to a gzip-compressed HAR file.
+ * <p>
+ * The recorder is fed with the CDP {@code Network} events received by the {@link NetworkActivityTracker} of the test's
+ * tab. A request is kept in memory only while it is in flight; each completed request is written to the file at once,
+ * so memory stays bounded however long the test runs. Once the compressed file reaches {@code harMaxMb}, further
+ * entries are counted but no longer written, and the log records how many were left out. The recorder also keeps
+ * the slowest backend calls (XHR and fetch requests made by the page) for the report.
+ * Set {@code harCapture=on} to record one HAR file per test under {@code target/har}.
+ */
+public class HarRecorder implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger();
+    private static final Path HAR_DIRECTORY = Path.of(System.getProperty("user.dir"), "target", "har");
+    private static final int MAX_PENDING_REQUESTS = 1_000;
+    private static final int SLOWEST_BACKEND_CALLS = 5;
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    private final Path file;
+    private final CountingOutputStream fileOutput;
+    private final long maxFileBytes;
+    private final JsonGenerator generator;
+    private final Map<String, PendingRequest> pendingRequests = new LinkedHashMap<>();
+    private final PriorityQueue<BackendCall> slowestBackendCalls = new PriorityQueue<>(Comparator.comparingLong(BackendCall::millis));
+    private int entries;
+    private int backendCalls;
+    private long backendMillis;
+    private int droppedRequests;
+    private int truncatedEntries;
+    private boolean closed;
+
+    /**
+     * A request waiting for its response and completion.
+     */
+    private static class PendingRequest {
+        private final Map<String, Object> request;
+        private final String resourceType;
+        private final double timestamp;
+        private final double wallTime;
+        private Map<String, Object> response;
+
+        private PendingRequest(Map<String, Object> request, String resourceType, double timestamp, double wallTime) {
+            this.request = request;
+            this.resourceType = resourceType;
+            this.timestamp = timestamp;
+            this.wallTime = wallTime;
+        }
+    }
+
+    /**
+     * A request made by the page's own scripts.
+     *
+     * @param method     The HTTP method.
+     * @param url        The URL.
+     * @param status     The HTTP status, 0 if the request failed.
+     * @param millis     The total time of the request.
+     * @param waitMillis The time waiting for the server's first byte, or -1 if unknown.
+     */
+    public record BackendCall(String method, String url, int status, long millis, long waitMillis) {
+        @Override
+        public String toString() {
+            return "%s %s %d in %d ms%s".formatted(method, url, status, millis,
+                    waitMillis < 0 ? "" : " (server wait %d ms)".formatted(waitMillis));
+        }
+    }
+
+    private HarRecorder(Path file, CountingOutputStream fileOutput) throws IOException {
+        this.file = file;
+        this.fileOutput = fileOutput;
+        this.maxFileBytes = PropertiesUtils.getHarMaxMb() * 1024 * 1024;
+        this.generator = new ObjectMapper().getFactory().createGenerator(new GZIPOutputStream(fileOutput, 64 * 1024));
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("log");
+        generator.writeStringField("version", "1.2");
+        generator.writeObjectField("creator", Map.of("name", "NetworkActivityTracker", "version", "1.0"));
+        generator.writeArrayFieldStart("pages");
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("entries");
+    }
+
+    /**
+     * Checks whether per-test HAR capture is enabled.
+     *
+     * @return {@code true} if {@code harCapture} is "on".
+     */
+    public static boolean isEnabled() {
+        return PropertiesUtils.getHarCapture().equals("on");
+    }
+
+    /**
+     * Opens the HAR file of a test.
+     *
+     * @param testName The name of the test, used in the file name.
+     * @return The recorder, or {@code null} if the file cannot be created.
+     */
+    public static HarRecorder open(String testName) {
+        String fileName = "%03d_%s.har.gz".formatted(sequence.incrementAndGet(),
+                testName.replaceAll("[^A-Za-z0-9._-]+", "_").replaceAll("^_|_$", ""));
+        Path file = HAR_DIRECTORY.resolve(fileName.length() > 120 ? fileName.substring(0, 113) + ".har.gz" : fileName);
+        try {
+            Files.createDirectories(HAR_DIRECTORY);
+            return new HarRecorder(file, new CountingOutputStream(Files.newOutputStream(file)));
+        } catch (IOException ex) {
+            logger.warn("Failed to create HAR file {}: {}", file, ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Retrieves the HAR file.
+     *
+     * @return The path of the compressed HAR file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Records a {@code Network.requestWillBeSent} event.
+     * A redirect completes the previous request of the same id before the new one starts.
+     *
+     * @param params The event parameters.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void onRequestWillBeSent(Map<String, Object> params) {
+        if (closed) return;
+
+        String requestId = String.valueOf(params.get("requestId"));
+        double timestamp = toDouble(params.get("timestamp"));
+        if (params.get("redirectResponse") instanceof Map<?, ?> redirectResponse) {
+            PendingRequest redirected = pendingRequests.remove(requestId);
+            if (redirected != null) {
+                redirected.response = (Map<String, Object>) redirectResponse;
+                writeEntry(redirected, timestamp, null);
+            }
+        }
+
+        pendingRequests.put(requestId, new PendingRequest((Map<String, Object>) params.get("request"),
+                String.valueOf(params.get("type")), timestamp, toDouble(params.get("wallTime"))));
+
+        // Requests that never complete (long polling, aborted navigations) are dropped first
+        if (pendingRequests.size() > MAX_PENDING_REQUESTS) {
+            pendingRequests.remove(pendingRequests.keySet().iterator().next());
+            droppedRequests++;
+        }
+    }
+
+    /**
+     * Records a {@code Network.responseReceived} event.
+     *
+     * @param params The event parameters.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void onResponseReceived(Map<String, Object> params) {
+        PendingRequest pending = pendingRequests.get(String.valueOf(params.get("requestId")));
+        if (pending != null) pending.response = (Map<String, Object>) params.get("response");
+    }
+
+    /**
+     * Records a {@code Network.loadingFinished} or {@code Network.loadingFailed} event and writes the completed entry.
+     *
+     * @param params The event parameters.
+     */
+    public synchronized void onLoadingCompleted(Map<String, Object> params) {
+        if (closed) return;
+
+        PendingRequest pending = pendingRequests.remove(String.valueOf(params.get("requestId")));
+        if (pending == null) return;
+
+        Object error = params.get("blockedReason") != null ? params.get("blockedReason") : params.get("errorText");
+        writeEntry(pending, toDouble(params.get("timestamp")), error == null ? null : String.valueOf(error));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeEntry(PendingRequest pending, double endTimestamp, String error) {
+        long totalMillis = Math.max(0, Math.round((endTimestamp - pending.timestamp) * 1000));
+        Map<String, Object> response = pending.response == null ? Map.of() : pending.response;
+        int status = error == null && response.get("status") instanceof Number number ? number.intValue() : 0;
+        Map<String, Object> timing = response.get("timing") instanceof Map<?, ?> map ? (Map<String, Object>) map : null;
+        String url = String.valueOf(pending.request.get("url"));
+        String method = String.valueOf(pending.request.get("method"));
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("startedDateTime", Instant.ofEpochMilli(Math.round(pending.wallTime * 1000)).toString());
+        entry.put("time", totalMillis);
+        entry.put("request", Map.of(
+                "method", method,
+                "url", url,
+                "httpVersion", String.valueOf(response.getOrDefault("protocol", "")),
+                "headers", toHarHeaders(pending.request.get("headers")),
+                "queryString", List.of(),
+                "cookies", List.of(),
+                "headersSize", -1,
+                "bodySize", pending.request.get("postData") instanceof String postData ? postData.length() : 0));
+        entry.put("response", Map.of(
+                "status", status,
+                "statusText", String.valueOf(response.getOrDefault("statusText", error == null ? "" : error)),
+                "httpVersion", String.valueOf(response.getOrDefault("protocol", "")),
+                "headers", toHarHeaders(response.get("headers")),
+                "cookies", List.of(),
+                "content", Map.of("size", toDouble(response.getOrDefault("encodedDataLength", 0)),
+                        "mimeType", String.valueOf(response.getOrDefault("mimeType", ""))),
+                "redirectURL", "",
+                "headersSize", -1,
+                "bodySize", -1));
+        entry.put("cache", Map.of());
+        entry.put("timings", toHarTimings(timing, totalMillis));
+        entry.put("_resourceType", pending.resourceType);
+        if (error != null) entry.put("_error", error);
+
+        // The compressed size lags by the compression buffer, the cap is approximate
+        if (fileOutput.getCount() >= maxFileBytes) {
+            if (truncatedEntries++ == 0) logger.warn("HAR file {} reached {} MB, further entries are not written", file, maxFileBytes / (1024 * 1024));
+        } else {
+            try {
+                generator.writeObject(entry);
+                entries++;
+            } catch (IOException ex) {
+                logger.warn("Failed to write HAR entry to {}: {}", file, ex.getMessage());
+            }
+        }
+
+        // Keep the slowest requests made by the page's scripts
+        if (pending.resourceType.equals("XHR") || pending.resourceType.equals("Fetch")) {
+            backendCalls++;
+            backendMillis += totalMillis;
+            long waitMillis = timing == null ? -1
+                    : Math.round(toDouble(timing.get("receiveHeadersEnd")) - toDouble(timing.get("sendEnd")));
+            slowestBackendCalls.offer(new BackendCall(method, url, status, totalMillis, waitMillis));
+            if (slowestBackendCalls.size() > SLOWEST_BACKEND_CALLS) slowestBackendCalls.poll();
+        }
+    }
+
+    private static List<Map<String, String>> toHarHeaders(Object headers) {
+        if (!(headers instanceof Map<?, ?> map)) return List.of();
+        return map.entrySet().stream()
+                .map(header -> Map.of("name", String.valueOf(header.getKey()), "value", String.valueOf(header.getValue())))
+                .toList();
+    }
+
+    /**
+     * Converts the CDP resource timing, in milliseconds relative to the request time, into HAR timings.
+     */
+    private static Map<String, Object> toHarTimings(Map<String, Object> timing, long totalMillis) {
+        if (timing == null) return Map.of("send", 0, "wait", totalMillis, "receive", 0);
+
+        double sendStart = toDouble(timing.get("sendStart"));
+        double sendEnd = toDouble(timing.get("sendEnd"));
+        double receiveHeadersEnd = toDouble(timing.get("receiveHeadersEnd"));
+        return Map.of(
+                "blocked", Math.max(-1, Math.round(sendStart)),
+                "dns", duration(timing, "dnsStart", "dnsEnd"),
+                "connect", duration(timing, "connectStart", "connectEnd"),
+                "ssl", duration(timing, "sslStart", "sslEnd"),
+                "send", Math.max(0, Math.round(sendEnd - sendStart)),
+                "wait", Math.max(0, Math.round(receiveHeadersEnd - sendEnd)),
+                "receive", Math.max(0, totalMillis - Math.round(receiveHeadersEnd)));
+    }
+
+    private static long duration(Map<String, Object> timing, String start, String end) {
+        double startMillis = toDouble(timing.get(start));
+        return startMillis < 0 ? -1 : Math.round(toDouble(timing.get(end)) - startMillis);
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : -1;
+    }
+
+    /**
+     * Summarises the recorded traffic for the report.
+     *
+     * @return The number of entries and backend calls and the slowest backend calls, one per line.
+     */
+    public synchronized String getSummary() {
+        StringBuilder summary = new StringBuilder("%d requests, %d backend calls in %d ms".formatted(entries, backendCalls, backendMillis));
+        if (droppedRequests > 0) summary.append(", %d unfinished requests dropped".formatted(droppedRequests));
+        if (truncatedEntries > 0) summary.append(", %d requests not written over the size cap".formatted(truncatedEntries));
+        slowestBackendCalls.stream()
+                .sorted(Comparator.comparingLong(BackendCall::millis).reversed())
+                .forEach(call -> summary.append('\n').append(call));
+        return summary.toString();
+    }
+
+    /**
+     * Writes the requests still in flight without their completion, and closes the file.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+
+        try {
+            for (PendingRequest pending : List.copyOf(pendingRequests.values())) {
+                writeEntry(pending, pending.timestamp, "Not finished when the test ended");
+            }
+            pendingRequests.clear();
+            generator.writeEndArray();
+            if (truncatedEntries > 0) {
+                generator.writeStringField("comment", "Truncated at %d MB: %d entries written, %d entries left out"
+                        .formatted(maxFileBytes / (1024 * 1024), entries, truncatedEntries));
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.close();
+        } catch (IOException ex) {
+            logger.warn("Failed to close HAR file {}: {}", file, ex.getMessage());
+        }
+    }
+}
@@ -170,7 +170,8 @@ public class IOSUtils {
      * @param locator The {@link By} locator of the target element.
      */
     public void click(By locator) {
-        getElement(locator).click();
+        ExecutionProfile.current().run(new ActionDecorator.Step("click", driver, locator, 0),
+                () -> getElement(locator).click());
     }
 
     /**
@@ -181,7 +182,8 @@ public class IOSUtils {
      * @throws IndexOutOfBoundsException If no element exists at the given index.
      */
     public void click(By locator, int index) {
-        getElement(locator, index).click();
+        ExecutionProfile.current().run(new ActionDecorator.Step("click", driver, locator, index),
+                () -> getElement(locator, index).click());
     }
 
     /**
@@ -213,16 +215,17 @@ public class IOSUtils {
             throw new IllegalArgumentException("Content to send cannot be null.");
         }
 
-        WebUtils.retryOnStaleElement(() -> {
-            getElement(locator, index).clear();
-
-            if (content instanceof CharSequence) {
-                getElement(locator, index).sendKeys((CharSequence) content);
-            } else {
-                getElement(locator, index).sendKeys(String.valueOf(content));
-            }
-            hideKeyboard();
-        });
+        ExecutionProfile.current().run(new ActionDecorator.Step("sendKeys", driver, locator, index),
+                () -> WebUtils.retryOnStaleElement(() -> {
+                    getElement(locator, index).clear();
+
+                    if (content instanceof CharSequence) {
+                        getElement(locator, index).sendKeys((CharSequence) content);
+                    } else {
+                        getElement(locator, index).sendKeys(String.valueOf(content));
+                    }
+                    hideKeyboard();
+                }));
     }
 
     /**
@@ -276,15 +279,12 @@ public class IOSUtils {
     }
 
     /**
-     * Relaunches the app by terminating and then activating it again.
+     * Relaunches the app by terminating and then activating it again,
+     * and waits until the app is interactive.
      */
     public void relaunchApp() {
-        ((IOSDriver) driver).terminateApp(appBundleId);
-        ((IOSDriver) driver).activateApp(appBundleId);
-        logger.info("Relaunch app.");
-
-        WebUtils.sleep(3_000);
-        logger.info("Waiting 3 seconds for application to launch");
+        long millis = AppLifecycle.relaunch(driver, appBundleId, null);
+        logger.info("Relaunched app in {} ms", millis);
     }
 
     public void swipeToElement(By locator) {
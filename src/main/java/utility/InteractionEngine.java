@@ -0,0 +1,224 @@
+package utility;
+
+import lombok.Getter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Performs clicks and text input in a single injected script call per attempt.
+ * <p>
+ * The script resolves the locator, checks that the element is visible, enabled and not covered by another element,
+ * scrolls it into view and performs the interaction, so a successful action costs one WebDriver command instead of
+ * the five to ten commands of the native path. The engine only handles XPath and CSS locators and returns
+ * {@code false} whenever it cannot complete the action, letting {@link WebUtils} fall back to native events.
+ * The element is highlighted in the same script when the {@link ExecutionProfile} highlights inline.
+ * The events it dispatches are synthetic, so it is opt-in: set {@code interactionMode=script} to enable it.
+ */
+public class InteractionEngine {
+    private static final Logger logger = LogManager.getLogger();
+
+    // Delay between two attempts while the element is not yet interactable
+    private static final long RETRY_DELAY_MS = 100;
+
+    // Time given to a found element to become visible or uncovered before falling back to native events
+    private static final long INTERACTABLE_TIMEOUT_NANOS = Duration.ofMillis(500).toNanos();
+
+    // Actions and commands of the current thread, reported per test
+    private static final ThreadLocal<Statistics> statistics = ThreadLocal.withInitial(Statistics::new);
+
+    private static final String RESOLVE_SCRIPT = """
+            const [using, value, index, highlight] = arguments;
+            localStorage.setItem('awareMode', '0');
+            let el = null;
+            if (using === 'xpath') {
+                const nodes = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                el = nodes.snapshotLength > index ? nodes.snapshotItem(index) : null;
+            } else {
+                const nodes = document.querySelectorAll(value);
+                el = nodes.length > index ? nodes[index] : null;
+            }
+            if (!el) return {status: 'missing'};
+            const style = getComputedStyle(el);
+            if (!el.getClientRects().length || style.visibility === 'hidden' || style.display === 'none') return {status: 'hidden'};
+            if (el.disabled || el.getAttribute('aria-disabled') === 'true') return {status: 'disabled'};
+            el.scrollIntoView({block: 'center', inline: 'center'});
+            const rect = el.getBoundingClientRect();
+            const top = document.elementFromPoint(rect.left + rect.width / 2, rect.top + rect.height / 2);
+            if (top && top !== el && !el.contains(top) && !top.contains(el)) return {status: 'obscured'};
+            if (highlight) {
+                const border = el.style.border;
+                el.style.border = '2px solid red';
+                setTimeout(() => el.style.border = border, 300);
+            }
+            """;
+
+    private static final String CLICK_SCRIPT = RESOLVE_SCRIPT + """
+            const options = {bubbles: true, cancelable: true, view: window,
+                clientX: rect.left + rect.width / 2, clientY: rect.top + rect.height / 2};
+            el.dispatchEvent(new PointerEvent('pointerdown', options));
+            el.dispatchEvent(new MouseEvent('mousedown', options));
+            if (typeof el.focus === 'function') el.focus();
+            el.dispatchEvent(new PointerEvent('pointerup', options));
+            el.dispatchEvent(new MouseEvent('mouseup', options));
+            el.click();
+            return {status: 'done'};
+            """;
+
+    private static final String SET_VALUE_SCRIPT = RESOLVE_SCRIPT + """
+            const text = arguments[4];
+            const prototype = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype
+                : el instanceof HTMLInputElement ? HTMLInputElement.prototype : null;
+            if (!prototype || el.readOnly) return {status: 'unsupported'};
+            el.focus();
+            Object.getOwnPropertyDescriptor(prototype, 'value').set.call(el, text);
+            el.dispatchEvent(new Event('input', {bubbles: true}));
+            el.dispatchEvent(new Event('change', {bubbles: true}));
+            el.blur();
+            return {status: 'done', value: el.value};
+            """;
+
+    private final WebDriver driver;
+
+    /**
+     * Constructs an InteractionEngine for the given driver.
+     *
+     * @param driver The WebDriver instance to be used.
+     */
+    public InteractionEngine(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Number of engine actions, WebDriver commands and native fallbacks of a thread.
+     */
+    @Getter
+    public static class Statistics {
+        private int actions;
+        private int commands;
+        private int fallbacks;
+
+        @Override
+        public String toString() {
+            return "%d actions, %d commands (%.1f per action), %d native fallbacks".formatted(
+                    actions, commands, actions == 0 ? 0.0 : (double) commands / actions, fallbacks);
+        }
+    }
+
+    /**
+     * Returns the interaction statistics of the current thread.
+     *
+     * @return The statistics since the last {@link #resetStatistics()}.
+     */
+    public static Statistics getStatistics() {
+        return statistics.get();
+    }
+
+    /**
+     * Resets the interaction statistics of the current thread, typically at the start of a test.
+     */
+    public static void resetStatistics() {
+        statistics.remove();
+    }
+
+    /**
+     * Records that an action fell back to native WebDriver events.
+     */
+    static void recordFallback() {
+        statistics.get().fallbacks++;
+    }
+
+    /**
+     * Clicks an element in a single script call per attempt.
+     *
+     * @param locator The locator of the element.
+     * @param index   The index of the element if multiple elements match the locator.
+     * @return {@code true} if the element was clicked, {@code false} if the caller should fall back to a native click.
+     * @throws TimeoutException if no element matches the locator within the default timeout.
+     */
+    public boolean click(By locator, int index) {
+        Map<String, Object> result = execute(CLICK_SCRIPT, locator, index);
+        return result != null && "done".equals(result.get("status"));
+    }
+
+    /**
+     * Sets the value of an input or text area in a single script call per attempt,
+     * firing the input and change events expected by the application.
+     *
+     * @param locator The locator of the element.
+     * @param index   The index of the element if multiple elements match the locator.
+     * @param text    The text to set.
+     * @return The resulting field value, or {@code null} if the caller should fall back to native key events.
+     * @throws TimeoutException if no element matches the locator within the default timeout.
+     */
+    public String setValue(By locator, int index, String text) {
+        Map<String, Object> result = execute(SET_VALUE_SCRIPT, locator, index, text);
+        return result != null && "done".equals(result.get("status")) ? String.valueOf(result.get("value")) : null;
+    }
+
+    /**
+     * Runs an interaction script until the element is interactable.
+     * A missing element is waited for until the default timeout expires, while a hidden or obscured element
+     * is only retried briefly, as the native fallback handles overlays and scrolling itself.
+     *
+     * @return The script result, or {@code null} if the engine cannot perform the action.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> execute(String script, By locator, int index, Object... extraArgs) {
+        if (!PropertiesUtils.getInteractionMode().equals("script")
+            || !(locator instanceof By.Remotable remotable)) return null;
+
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        if (!parameters.using().equals("xpath") && !parameters.using().equals("css selector")) return null;
+
+        Object[] args = new Object[4 + extraArgs.length];
+        args[0] = parameters.using();
+        args[1] = parameters.value();
+        args[2] = index;
+        args[3] = ExecutionProfile.current().isInlineHighlight();
+        System.arraycopy(extraArgs, 0, args, 4, extraArgs.length);
+
+        Statistics stats = statistics.get();
+        stats.actions++;
+        int commands = 0;
+        long deadline = System.nanoTime() + Duration.ofSeconds(WebUtils.DEFAULT_TIMEOUT_SECONDS).toNanos();
+        long interactableDeadline = Long.MAX_VALUE;
+        Map<String, Object> result;
+        try {
+            do {
+                commands++;
+                result = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(script, args);
+                String status = String.valueOf(result.get("status"));
+                if (status.equals("done")) break;
+                if (status.equals("disabled") || status.equals("unsupported")) break;
+                long now = System.nanoTime();
+                if (status.equals("missing")) {
+                    if (now > deadline) {
+                        throw new TimeoutException("No element found for %s at index %d".formatted(locator, index));
+                    }
+                } else {
+                    // Hidden or obscured
+                    if (interactableDeadline == Long.MAX_VALUE) interactableDeadline = now + INTERACTABLE_TIMEOUT_NANOS;
+                    if (now > Math.min(deadline, interactableDeadline)) break;
+                }
+                WebUtils.sleep(RETRY_DELAY_MS);
+            } while (true);
+        } catch (WebDriverException ex) {
+            if (ex instanceof TimeoutException) throw ex;
+            logger.debug("Interaction script failed for {}: {}", locator, ex.getMessage());
+            result = null;
+        } finally {
+            stats.commands += commands;
+        }
+
+        logger.debug("{} [{}]: {} in {} command(s)", locator, index, result == null ? "error" : result.get("status"), commands);
+        return result;
+    }
+}
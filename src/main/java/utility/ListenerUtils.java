@@ -9,6 +9,7 @@ import org.apache.logging.log4j.Logger;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Entities;
 import org.jsoup.select.Elements;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
@@ -17,21 +18,28 @@ import org.testng.ISuite;
 import org.testng.ISuiteListener;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
+import utility.helper.AutoDataReaper;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * The {@code ListenerUtils} class is a TestNG listener that generates an Extent report for
  * test execution and captures screenshots on test failures.
+ * <p>
+ * The listener keeps no per-test state in its fields: the Extent test is stored on the {@link ITestResult}
+ * and bound to the executing thread through {@link TestContext}, so it is safe for parallel execution.
  */
 public class ListenerUtils implements ITestListener, ISuiteListener {
+    private static final String EXTENT_TEST_ATTRIBUTE = "extentTest";
+    private static final String HAR_RECORDER_ATTRIBUTE = "harRecorder";
     private ExtentReports extent;
-    private ExtentTest test;
-    private String testName;  // Global variable to store the test name
     private String reportFilePath;
 
     // Logger instance for logging to the console
@@ -44,11 +52,27 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
      * @return The {@code WebDriver} instance used in the test, or {@code null} if the driver cannot be accessed.
      */
     public WebDriver getDriver(ITestResult iTestResult) {
-        try {
-            return (WebDriver) iTestResult.getTestClass().getRealClass().getField("driver").get(iTestResult.getInstance());
-        } catch (IllegalAccessException | NoSuchFieldException e) {
-            return null;
-        }
+        return TestContext.getDriver(iTestResult.getInstance());
+    }
+
+    /**
+     * Retrieves the test name displayed in the report: the first parameter for data-driven tests, the method name otherwise.
+     *
+     * @param result The {@code ITestResult} object containing information about the executed test.
+     * @return The test name.
+     */
+    private String getTestName(ITestResult result) {
+        return result.getParameters().length > 0 ? result.getParameters()[0].toString() : result.getName();
+    }
+
+    /**
+     * Retrieves the Extent test created for a test method in {@link #onTestStart(ITestResult)}.
+     *
+     * @param result The {@code ITestResult} object containing information about the executed test.
+     * @return The {@code ExtentTest}, or {@code null} if the test has not been started.
+     */
+    private ExtentTest getExtentTest(ITestResult result) {
+        return (ExtentTest) result.getAttribute(EXTENT_TEST_ATTRIBUTE);
     }
 
     /**
@@ -66,6 +90,18 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
         extent.attachReporter(reporter);
         extent.setSystemInfo("Environment", PropertiesUtils.getEnv());
         extent.setSystemInfo("Author", "Automation Tester");
+
+        // Apply the execution profile: command line first, then the suite parameter, then the configured one
+        String profile = Optional.ofNullable(System.getProperty("executionProfile"))
+                .or(() -> Optional.ofNullable(suite.getParameter("executionProfile")))
+                .orElse(PropertiesUtils.getExecutionProfile());
+        extent.setSystemInfo("Execution profile", ExecutionProfile.select(profile).getName());
+
+        // Start cleaning up auto-generated data in the background if configured
+        if (PropertiesUtils.getReaperMode().equals("scheduled")) {
+            AutoDataReaper.startSchedule(PropertiesUtils.getSellerCredentials(),
+                    Duration.ofMinutes(PropertiesUtils.getReaperIntervalMinutes()));
+        }
     }
 
     /**
@@ -79,6 +115,30 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
     public void onFinish(ISuite suite) {
         if (extent == null) return;
 
+        // Clean up auto-generated data and record the store size in the report
+        reapAutoGeneratedData();
+
+        // Record the browser startup time saved by the driver manifest
+        extent.setSystemInfo("Driver resolution time saved", "%d ms".formatted(DriverBinaryResolver.getTimeSavedMillis()));
+
+        // Record the WebDriver commands of the run and the locators they spent the most time on
+        if (CommandTelemetry.getRunStatistics().getCommands() > 0) {
+            extent.setSystemInfo("WebDriver commands", CommandTelemetry.getRunStatistics().toString());
+            extent.setSystemInfo("Locator hotspots", CommandTelemetry.getRunStatistics().getLocatorHotspots(10).stream()
+                    .map(Entities::escape)
+                    .collect(Collectors.joining("<br>")));
+        }
+
+        // Record how long the mobile apps took to become interactive after each launch
+        if (!AppLifecycle.getLaunchStatistics().isEmpty()) {
+            extent.setSystemInfo("App launch to ready", AppLifecycle.getLaunchStatistics());
+        }
+
+        // Record the browsers recycled by the memory watchdog
+        if (!BrowserMemoryWatchdog.getSamples().isEmpty()) {
+            extent.setSystemInfo("Browsers recycled", String.valueOf(BrowserMemoryWatchdog.getRecycles()));
+        }
+
         // Flushes the ExtentReports
         extent.flush();
 
@@ -121,6 +181,9 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
             Objects.requireNonNull(Objects.requireNonNull(testFailedColumn.first()).parent())
                     .appendChild(testSkippedColumn);
 
+            // Chart the browser memory below the test counts
+            appendBrowserMemoryChart(Objects.requireNonNull(testFailedColumn.first().parent()));
+
             // Save the updated HTML directly to the original file
             try (FileWriter writer = new FileWriter(inputFile)) {
                 writer.write(doc.outerHtml());
@@ -131,6 +194,41 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
 
     }
 
+    /**
+     * Adds the browser memory chart of the {@link BrowserMemoryWatchdog} to the dashboard of the report, as a new row
+     * after the row of test counts.
+     *
+     * @param countsRow The row containing the "Tests Passed", "Tests Failed" and "Tests Skipped" columns.
+     */
+    private void appendBrowserMemoryChart(Element countsRow) {
+        String chart = BrowserMemoryWatchdog.renderChart();
+        if (chart == null) return;
+
+        countsRow.after("""
+                <div class="row"><div class="col-md-12"><div class="card">
+                <div class="card-header"><h6 class="card-title">Browser memory</h6></div>
+                <div class="card-body">%s</div>
+                </div></div></div>
+                """.formatted(chart));
+    }
+
+    /**
+     * Runs the {@link AutoDataReaper} at the end of the suite when the reaper is enabled,
+     * and records the store size before and after the cleanup in the report.
+     */
+    private void reapAutoGeneratedData() {
+        String reaperMode = PropertiesUtils.getReaperMode();
+        if (reaperMode.equals("off")) return;
+
+        AutoDataReaper.stopSchedule();
+        try {
+            AutoDataReaper.ReapReport report = new AutoDataReaper(PropertiesUtils.getSellerCredentials()).reap();
+            extent.setSystemInfo("Auto data reaper", report.toString());
+        } catch (RuntimeException ex) {
+            logger.warn("Failed to reap auto-generated data: {}", ex.getMessage());
+        }
+    }
+
     /**
      * Logs the start of a test method.
      *
@@ -140,10 +238,26 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
     public void onTestStart(ITestResult result) {
         if (result == null || extent == null) return;
 
-        // Store testName globally
-        testName = result.getParameters().length > 0 ? result.getParameters()[0].toString() : result.getName();
+        String testName = getTestName(result);
+        ExtentTest test;
+        synchronized (extent) {
+            test = extent.createTest(testName);
+        }
+
+        // Keep the test on the result and bind it to the current thread
+        result.setAttribute(EXTENT_TEST_ATTRIBUTE, test);
+        TestContext.startTest("%s.%s@%x".formatted(result.getTestClass().getName(), result.getMethod().getMethodName(),
+                System.identityHashCode(result)), testName, test);
+
+        // Start counting network requests and WebDriver commands for this test
+        NetworkActivityTracker tracker = NetworkActivityTracker.find(getDriver(result));
+        if (tracker != null) tracker.resetStatistics();
+        InteractionEngine.resetStatistics();
+        ElementCache.resetStatistics();
+        CommandTelemetry.resetStatistics();
 
-        test = extent.createTest(testName);
+        // Record the network traffic of the test if configured
+        if (HarRecorder.isEnabled()) startHarCapture(result, testName);
 
         // Logger
         logger.info("Test Started: {} ", testName);
@@ -156,8 +270,10 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
      */
     @Override
     public void onTestSuccess(ITestResult result) {
-        if (test == null || result == null) return;
-        test.pass("Test Passed: " + testName);
+        if (result == null || getExtentTest(result) == null) return;
+        getExtentTest(result).pass("Test Passed: " + getTestName(result));
+        logTestStatistics(result);
+        TestContext.finishTest();
     }
 
     /**
@@ -167,12 +283,14 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
      */
     @Override
     public void onTestFailure(ITestResult result) {
-        if (test == null || result == null) return;
+        if (result == null || getExtentTest(result) == null) return;
 
-        test.log(Status.FAIL, result.getThrowable());
+        getExtentTest(result).log(Status.FAIL, result.getThrowable());
 
         // Capture screenshot on test failure and add it to ExtentReport
         takeScreenshotToDebug(result);
+        logTestStatistics(result);
+        TestContext.finishTest();
     }
 
     /**
@@ -182,10 +300,93 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
      */
     @Override
     public void onTestSkipped(ITestResult result) {
-        if (test == null || result == null) return;
+        if (result == null || getExtentTest(result) == null) return;
         // Capture screenshot on test failure and add it to ExtentReport
         takeScreenshotToDebug(result);
-        test.skip("Test Skipped: " + testName);
+        getExtentTest(result).skip("Test Skipped: " + getTestName(result));
+        logTestStatistics(result);
+        TestContext.finishTest();
+    }
+
+    /**
+     * Records the interaction, element cache and WebDriver command statistics of the test, and the requests blocked by the
+     * resource blocking profile and the bytes transferred during the test.
+     *
+     * @param result The {@code ITestResult} object containing information about the executed test.
+     */
+    private void logTestStatistics(ITestResult result) {
+        if (InteractionEngine.getStatistics().getActions() > 0) {
+            getExtentTest(result).info("Interactions: " + InteractionEngine.getStatistics());
+        }
+        if (ElementCache.getStatistics().getHits() > 0) {
+            getExtentTest(result).info("Element cache: " + ElementCache.getStatistics());
+        }
+        logCommandStatistics(result);
+        finishHarCapture(result);
+
+        if (!ResourceBlockingProfile.isEnabled()) return;
+        NetworkActivityTracker tracker = NetworkActivityTracker.find(getDriver(result));
+        if (tracker != null) getExtentTest(result).info("Network: " + tracker.getStatistics());
+    }
+
+    /**
+     * Records the number of WebDriver commands of the test by type, its slowest commands and the locators and steps
+     * its commands spent the most time on, then drops the statistics of the test.
+     *
+     * @param result The {@code ITestResult} object containing information about the executed test.
+     */
+    private void logCommandStatistics(ITestResult result) {
+        CommandTelemetry.Statistics commands = CommandTelemetry.getStatistics();
+        if (commands.getCommands() > 0) {
+            getExtentTest(result).info("WebDriver commands: " + commands);
+            getExtentTest(result).info("Slowest commands:<br>" + commands.getSlowestCommands().stream()
+                    .map(command -> Entities.escape(command.toString()))
+                    .collect(Collectors.joining("<br>")));
+            getExtentTest(result).info("Locator hotspots:<br>" + commands.getLocatorHotspots(5).stream()
+                    .map(Entities::escape)
+                    .collect(Collectors.joining("<br>")));
+            if (!commands.getStepHotspots(1).isEmpty()) {
+                getExtentTest(result).info("Step hotspots:<br>" + commands.getStepHotspots(5).stream()
+                        .map(Entities::escape)
+                        .collect(Collectors.joining("<br>")));
+            }
+        }
+        CommandTelemetry.resetStatistics();
+    }
+
+    /**
+     * Starts recording the network traffic of the test's browser to a HAR file.
+     *
+     * @param result   The {@code ITestResult} object containing information about the executed test.
+     * @param testName The name of the test.
+     */
+    private void startHarCapture(ITestResult result, String testName) {
+        NetworkActivityTracker tracker = NetworkActivityTracker.of(getDriver(result));
+        if (tracker == null) return;
+
+        HarRecorder recorder = HarRecorder.open(testName);
+        if (recorder == null) return;
+        tracker.setHarRecorder(recorder);
+        result.setAttribute(HAR_RECORDER_ATTRIBUTE, recorder);
+    }
+
+    /**
+     * Stops recording the network traffic of the test, links the HAR file from the report
+     * and summarises the slowest backend calls made by the page.
+     *
+     * @param result The {@code ITestResult} object containing information about the executed test.
+     */
+    private void finishHarCapture(ITestResult result) {
+        if (!(result.getAttribute(HAR_RECORDER_ATTRIBUTE) instanceof HarRecorder recorder)) return;
+
+        NetworkActivityTracker tracker = NetworkActivityTracker.find(getDriver(result));
+        if (tracker != null) tracker.setHarRecorder(null);
+        recorder.close();
+
+        // The HAR directory is next to the report
+        String fileName = recorder.getFile().getFileName().toString();
+        getExtentTest(result).info("Network capture: <a href='har/%s'>%s</a><br>%s".formatted(fileName, fileName,
+                Entities.escape(recorder.getSummary()).replace("\n", "<br>")));
     }
 
     private void takeScreenshotToDebug(ITestResult result) {
@@ -196,9 +397,9 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
         try {
             // Capture screenshot and save it as Base64 string
             String base64Image = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
-            test.addScreenCaptureFromBase64String(base64Image);
+            getExtentTest(result).addScreenCaptureFromBase64String(base64Image);
         } catch (Exception e) {
-            logger.error("Failed to capture screenshot for {}", testName, e);
+            logger.error("Failed to capture screenshot for {}", getTestName(result), e);
         }
     }
 }
\ No newline at end of file
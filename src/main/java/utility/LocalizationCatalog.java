@@ -0,0 +1,105 @@
+package utility;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+/**
+ * Typed catalog over the {@code localization/dashboard_*.properties} files.
+ * <p>
+ * Each {@link Key} constant maps to a fixed slot in a per-locale array. Both locales are loaded once
+ * when the class is initialized and every key is validated at that point, so a missing translation
+ * fails the run immediately and a lookup is a plain array read.
+ */
+public class LocalizationCatalog {
+    private static final String BUNDLE_PATH = "localization/dashboard_%s.properties";
+
+    /**
+     * Localization keys available in the dashboard properties files.
+     */
+    public enum Key {
+        INPUT_BLANK_ERROR("input.blank.error"),
+        LOGIN_INVALID_PHONE_ERROR("login.screen.error.invalidPhone"),
+        LOGIN_INVALID_MAIL_ERROR("login.screen.error.invalidMail"),
+        LOGIN_WRONG_CREDENTIALS_ERROR("login.screen.error.wrongCredentials");
+
+        private final String propertyKey;
+
+        Key(String propertyKey) {
+            this.propertyKey = propertyKey;
+        }
+    }
+
+    /**
+     * Supported catalog languages.
+     */
+    private enum Language {
+        EN, VI
+    }
+
+    // Translations indexed by [language ordinal][key ordinal]
+    private static final String[][] translations = new String[Language.values().length][];
+
+    static {
+        for (Language language : Language.values()) {
+            translations[language.ordinal()] = loadTranslations(language);
+        }
+    }
+
+    /**
+     * Loads all translations of a language into an array indexed by {@link Key#ordinal()}.
+     *
+     * @param language The language to load.
+     * @return The translations of the language.
+     * @throws IllegalStateException if the properties file is missing or does not define every key.
+     */
+    private static String[] loadTranslations(Language language) {
+        String path = BUNDLE_PATH.formatted(language.name().toLowerCase());
+        Properties properties = new Properties();
+
+        try (InputStream input = LocalizationCatalog.class.getClassLoader().getResourceAsStream(path)) {
+            if (input == null) {
+                throw new IllegalStateException("Unable to find " + path);
+            }
+            properties.load(new InputStreamReader(input, StandardCharsets.UTF_8));
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to load localization file: " + path, ex);
+        }
+
+        String[] values = new String[Key.values().length];
+        for (Key key : Key.values()) {
+            String value = properties.getProperty(key.propertyKey);
+            if (value == null) {
+                throw new IllegalStateException("Missing key '%s' in %s".formatted(key.propertyKey, path));
+            }
+            values[key.ordinal()] = value;
+        }
+        return values;
+    }
+
+    /**
+     * Resolves a language key such as "en" or "vi" to a catalog language.
+     *
+     * @param langKey The language key.
+     * @return The matching {@link Language}.
+     * @throws IllegalArgumentException if the language key is not supported.
+     */
+    private static Language resolveLanguage(String langKey) {
+        if (langKey.equals("vi")) return Language.VI;
+        if (langKey.contains("en")) return Language.EN;
+        throw new IllegalArgumentException("LangKey must be 'en' (English) or 'vi' (Vietnamese)");
+    }
+
+    /**
+     * Retrieves the translation of a key for the given language.
+     *
+     * @param key     The localization key.
+     * @param langKey The language key, "en" for English or "vi" for Vietnamese.
+     * @return The translated text.
+     */
+    public static String get(Key key, String langKey) {
+        return translations[resolveLanguage(langKey).ordinal()][key.ordinal()];
+    }
+}
@@ -0,0 +1,155 @@
+package utility;
+
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.ios.IOSDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import utility.helper.ActivityHelper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static utility.WebDriverManager.appBundleId;
+
+/**
+ * Opens mobile app screens directly, instead of tapping through the home screen and searching lists.
+ * <p>
+ * A screen is opened with the deep link configured for it, such as
+ * {@code androidSELLERProductDetailDeepLink=gosellseller://product/{id}}: through {@code mobile: deepLink} on both
+ * platforms, with {@code {id}} replaced by the product ID. Android screens without a deep link that need no
+ * parameters are started by their activity from {@link ActivityHelper} with {@code mobile: startActivity}.
+ * <p>
+ * A shortcut succeeds once the expected activity is displayed on Android and the ready marker of the screen is found.
+ * Otherwise the caller navigates through the UI as before; a shortcut that failed is not tried again for the same app.
+ */
+public class MobileNavigator {
+    private static final Logger logger = LogManager.getLogger();
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(10);
+
+    // Shortcuts that failed, by app and screen
+    private static final Set<String> unsupportedShortcuts = ConcurrentHashMap.newKeySet();
+
+    private final WebDriver driver;
+
+    /**
+     * Screens that can be opened directly.
+     */
+    public enum Screen {
+        SELLER_PRODUCT_DETAIL("SELLER", "ProductDetail", ActivityHelper.sellerProductDetailActivity, true),
+        SELLER_PRODUCT_MANAGEMENT("SELLER", "ProductManagement", ActivityHelper.sellerProductMgmtActivity, false),
+        SELLER_SUPPLIER_MANAGEMENT("SELLER", "SupplierManagement", ActivityHelper.sellerSupplierMgmtActivity, false),
+        SELLER_CREATE_PRODUCT("SELLER", "CreateProduct", ActivityHelper.sellerCreateProductActivity, false),
+        BUYER_PRODUCT_DETAIL("BUYER", "ProductDetail", null, true);
+
+        private final String app;
+        private final String name;
+        private final String activity;
+        private final boolean requiresId;
+
+        Screen(String app, String name, String activity, boolean requiresId) {
+            this.app = app;
+            this.name = name;
+            this.activity = activity;
+            this.requiresId = requiresId;
+        }
+    }
+
+    /**
+     * Constructor for MobileNavigator.
+     *
+     * @param driver The AndroidDriver or IOSDriver instance.
+     */
+    public MobileNavigator(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Opens a screen without parameters directly.
+     *
+     * @param screen      The screen to open.
+     * @param readyMarker A locator found once the screen is loaded.
+     * @return {@code true} if the screen is displayed, {@code false} if the caller must navigate through the UI.
+     */
+    public boolean open(Screen screen, By readyMarker) {
+        return open(screen, null, readyMarker);
+    }
+
+    /**
+     * Opens a screen directly.
+     *
+     * @param screen      The screen to open.
+     * @param id          The ID of the displayed entity, such as the product ID, or {@code null}.
+     * @param readyMarker A locator found once the screen is loaded.
+     * @return {@code true} if the screen is displayed, {@code false} if the caller must navigate through the UI.
+     */
+    public boolean open(Screen screen, Object id, By readyMarker) {
+        String platform = driver instanceof IOSDriver ? "ios" : "android";
+        String shortcutKey = "%s/%s".formatted(appBundleId, screen);
+        if (unsupportedShortcuts.contains(shortcutKey)) return false;
+
+        long start = System.currentTimeMillis();
+        try {
+            if (!launch(screen, id, platform)) {
+                unsupportedShortcuts.add(shortcutKey);
+                return false;
+            }
+            waitUntilReady(screen, readyMarker);
+            logger.info("Opened {} screen directly in {} ms", screen, System.currentTimeMillis() - start);
+            return true;
+        } catch (RuntimeException ex) {
+            logger.warn("Cannot open {} screen directly, navigating through the UI: {}", screen, ex.getMessage());
+            unsupportedShortcuts.add(shortcutKey);
+            return false;
+        }
+    }
+
+    /**
+     * Sends the deep link or the intent of a screen.
+     *
+     * @return {@code false} if the screen has no shortcut on this platform.
+     */
+    private boolean launch(Screen screen, Object id, String platform) {
+        String deepLink = PropertiesUtils.getDeepLink(platform + screen.app, screen.name);
+        if (deepLink != null && (id != null || !screen.requiresId)) {
+            String url = deepLink.replace("{id}", String.valueOf(id));
+            if (driver instanceof AndroidDriver androidDriver) {
+                androidDriver.executeScript("mobile: deepLink", Map.of("url", url, "package", appBundleId, "waitForLaunch", false));
+            } else {
+                ((IOSDriver) driver).executeScript("mobile: deepLink", Map.of("url", url, "bundleId", appBundleId));
+            }
+            logger.debug("Opened deep link {}", url);
+            return true;
+        }
+
+        // Activities expecting extras cannot be started without them
+        if (driver instanceof AndroidDriver androidDriver && screen.activity != null && !screen.requiresId) {
+            androidDriver.executeScript("mobile: startActivity", Map.of("intent", "%s/%s".formatted(appBundleId, screen.activity)));
+            logger.debug("Started activity {}", screen.activity);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Waits until the expected activity is displayed on Android, then until the ready marker is found.
+     *
+     * @throws TimeoutException if the screen is not ready in time.
+     */
+    private void waitUntilReady(Screen screen, By readyMarker) {
+        WebDriverWait wait = new WebDriverWait(driver, READY_TIMEOUT);
+        wait.pollingEvery(Duration.ofMillis(250));
+        if (driver instanceof AndroidDriver androidDriver && screen.activity != null) {
+            wait.until(ignored -> {
+                String currentActivity = androidDriver.currentActivity();
+                return currentActivity != null && screen.activity.endsWith(currentActivity.replaceFirst("^\\.", ""));
+            });
+        }
+        if (readyMarker != null) wait.until(ignored -> !driver.findElements(readyMarker).isEmpty());
+    }
+}
@@ -0,0 +1,232 @@
+package utility;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.ios.IOSDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one Appium session per device for the whole suite.
+ * <p>
+ * Starting a session installs the app, starts the automation server and waits for the launch, which takes
+ * far longer than the tests of a class. The first test class acquiring a device starts its session; the following
+ * classes get the same session with the app reset in place:
+ * <ul>
+ *     <li>Android: the app data is cleared with {@code mobile: clearApp}, the runtime permissions are granted again
+ *     and the app is relaunched.</li>
+ *     <li>iOS: the app data is cleared with {@code mobile: clearApp} on simulators, or the app is reinstalled on
+ *     real devices, then the app is relaunched.</li>
+ * </ul>
+ * Apps are identified by the URL they were downloaded from. A new session is only started when a class needs
+ * another app or another build of it on the device, or when the session died.
+ * The bundle ID is resolved once per app and exposed through {@link WebDriverManager#appBundleId}.
+ * Set {@code mobileSessionReuse=off} to start a fresh session for every test class.
+ */
+public class MobileSessionManager {
+    private static final Logger logger = LogManager.getLogger();
+
+    // Sessions by device UDID
+    private static final Map<String, MobileSession> sessions = new ConcurrentHashMap<>();
+
+    private static final boolean enabled = !PropertiesUtils.getMobileSessionReuse().equals("off");
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(MobileSessionManager::shutdown, "mobile-session-shutdown"));
+    }
+
+    /**
+     * An Appium session on a device.
+     */
+    private static class MobileSession {
+        private final AppiumDriver driver;
+        private final String appUrl;
+        private final String appPath;
+        private final String bundleId;
+        private boolean leased;
+
+        private MobileSession(AppiumDriver driver, String appUrl, String appPath, String bundleId) {
+            this.driver = driver;
+            this.appUrl = appUrl;
+            this.appPath = appPath;
+            this.bundleId = bundleId;
+        }
+    }
+
+    /**
+     * Acquires the Android session of a device, with the app in its initial state.
+     *
+     * @param udid    The unique device identifier.
+     * @param appUrl  The URL the app was downloaded from, identifying the app.
+     * @param appPath The path to the app to be tested.
+     * @return The AndroidDriver of the device.
+     * @throws MalformedURLException If the Appium server URL is malformed.
+     * @throws URISyntaxException    If the Appium server URI syntax is incorrect.
+     */
+    public static AndroidDriver acquireAndroidDriver(String udid, String appUrl, String appPath) throws MalformedURLException, URISyntaxException {
+        if (!enabled) return WebDriverManager.getAndroidDriver(udid, appPath);
+
+        MobileSession session = reuse(udid, appUrl, appPath);
+        if (session == null) {
+            AndroidDriver driver = WebDriverManager.getAndroidDriver(udid, appPath);
+            session = start(udid, driver, appUrl, appPath);
+        }
+        return (AndroidDriver) session.driver;
+    }
+
+    /**
+     * Acquires the iOS session of a device, with the app in its initial state.
+     *
+     * @param udid    The unique device identifier.
+     * @param appUrl  The URL the app was downloaded from, identifying the app.
+     * @param appPath The path to the app to be tested.
+     * @return The IOSDriver of the device.
+     * @throws MalformedURLException If the Appium server URL is malformed.
+     * @throws URISyntaxException    If the Appium server URI syntax is incorrect.
+     */
+    public static IOSDriver acquireIOSDriver(String udid, String appUrl, String appPath) throws MalformedURLException, URISyntaxException {
+        if (!enabled) return WebDriverManager.getIOSDriver(udid, appUrl, appPath);
+
+        MobileSession session = reuse(udid, appUrl, appPath);
+        if (session == null) {
+            IOSDriver driver = WebDriverManager.getIOSDriver(udid, appUrl, appPath);
+            session = start(udid, driver, appUrl, appPath);
+        }
+        return (IOSDriver) session.driver;
+    }
+
+    /**
+     * Releases a session acquired by a test class. The session stays open for the next class on the device.
+     * When sessions are not reused, the driver is quit.
+     *
+     * @param driver The driver to release.
+     */
+    public static void release(WebDriver driver) {
+        if (driver == null) return;
+
+        for (MobileSession session : sessions.values()) {
+            if (session.driver == driver) {
+                synchronized (session) {
+                    session.leased = false;
+                }
+                return;
+            }
+        }
+        quitQuietly(driver);
+    }
+
+    /**
+     * Registers a new session. Its app is already in its initial state, reset by the session capabilities.
+     */
+    private static MobileSession start(String udid, AppiumDriver driver, String appUrl, String appPath) {
+        MobileSession session = new MobileSession(driver, appUrl, appPath, WebDriverManager.appBundleId);
+        session.leased = true;
+        sessions.put(udid, session);
+        logger.info("Started mobile session on device {} for app {}", udid, session.bundleId);
+        return session;
+    }
+
+    /**
+     * Leases the open session of a device when it runs the same build of the same app and is still alive,
+     * resetting the app.
+     *
+     * @return The session, or {@code null} if a new session must be started.
+     */
+    private static MobileSession reuse(String udid, String appUrl, String appPath) {
+        MobileSession session = sessions.get(udid);
+        if (session == null) return null;
+
+        synchronized (session) {
+            if (session.leased) {
+                throw new IllegalStateException("Device %s is already used by another test class".formatted(udid));
+            }
+
+            // Another app or a new build of it is tested on the device, or the session died: start over
+            if (!session.appUrl.equals(appUrl) || !session.appPath.equals(appPath) || !isAlive(session.driver)) {
+                sessions.remove(udid);
+                quitQuietly(session.driver);
+                return null;
+            }
+
+            session.leased = true;
+        }
+
+        WebDriverManager.appBundleId = session.bundleId;
+        resetApp(session);
+        logger.info("Reusing mobile session on device {} for app {}", udid, session.bundleId);
+        return session;
+    }
+
+    /**
+     * Resets the app to its initial state: stopped, data cleared, then launched again.
+     */
+    private static void resetApp(MobileSession session) {
+        AppiumDriver driver = session.driver;
+        String bundleId = session.bundleId;
+        long start = System.currentTimeMillis();
+
+        if (driver instanceof AndroidDriver androidDriver) {
+            androidDriver.terminateApp(bundleId);
+
+            // Clearing the data also revokes the runtime permissions granted when the app was installed
+            androidDriver.executeScript("mobile: clearApp", Map.of("appId", bundleId));
+            androidDriver.executeScript("mobile: changePermissions",
+                    Map.of("permissions", "all", "appPackage", bundleId, "action", "grant"));
+            long launchStart = System.currentTimeMillis();
+            androidDriver.activateApp(bundleId);
+            AppLifecycle.waitUntilReady(androidDriver, bundleId, launchStart, null);
+            AndroidHierarchyFinder.of(androidDriver).invalidate();
+        } else if (driver instanceof IOSDriver iosDriver) {
+            iosDriver.terminateApp(bundleId);
+            try {
+                // Only supported on simulators
+                iosDriver.executeScript("mobile: clearApp", Map.of("bundleId", bundleId));
+            } catch (RuntimeException ex) {
+                logger.debug("Reinstalling app, data cannot be cleared in place: {}", ex.getMessage());
+                iosDriver.removeApp(bundleId);
+                iosDriver.installApp(session.appPath);
+            }
+            long launchStart = System.currentTimeMillis();
+            iosDriver.activateApp(bundleId);
+            AppLifecycle.waitUntilReady(iosDriver, bundleId, launchStart, null);
+        }
+
+        logger.info("Reset app {} in {} ms", bundleId, System.currentTimeMillis() - start);
+    }
+
+    private static boolean isAlive(AppiumDriver driver) {
+        try {
+            // A cheap command that fails once the session or the automation server is gone
+            driver.manage().window().getSize();
+            return true;
+        } catch (RuntimeException ex) {
+            logger.warn("Mobile session is no longer alive: {}", ex.getMessage());
+            return false;
+        }
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException ex) {
+            logger.debug("Failed to quit mobile session: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Quits every open session. Runs automatically when the JVM shuts down.
+     */
+    private static void shutdown() {
+        List<MobileSession> openSessions = new ArrayList<>(sessions.values());
+        sessions.clear();
+        openSessions.forEach(session -> quitQuietly(session.driver));
+    }
+}
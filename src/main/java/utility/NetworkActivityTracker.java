@@ -0,0 +1,203 @@
+package utility;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks in-flight network requests of a browser tab through the Chrome DevTools Protocol.
+ * <p>
+ * One tracker is attached to every browser when it is launched or leased, so requests started by the first action
+ * of a test are already counted, and re-attached when the driver switches to another tab.
+ * When a {@link ResourceBlockingProfile} is enabled, the tracker also blocks the profile's URL patterns
+ * on the tab and counts the blocked requests and the bytes actually transferred.
+ * When a test records its traffic, the tracker also feeds the request lifecycle events to its {@link HarRecorder}.
+ * The raw CDP method names are used instead of the versioned {@code devtools.vXXX} packages,
+ * so the tracker keeps working when the browser is updated.
+ */
+public class NetworkActivityTracker {
+    private static final Logger logger = LogManager.getLogger();
+
+    // Requests running longer than this (long polling, web sockets, analytics beacons) do not block idleness
+    private static final long LONG_REQUEST_NANOS = 10_000_000_000L;
+
+    private static final Map<WebDriver, NetworkActivityTracker> trackers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Drivers whose DevTools already route events to their current tracker
+    private static final Set<WebDriver> listeningDrivers = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private final String windowHandle;
+    private final Map<String, Long> inflightRequests = new ConcurrentHashMap<>();
+    private final AtomicLong lastActivity = new AtomicLong(System.nanoTime());
+    private final AtomicLong blockedRequests = new AtomicLong();
+    private final AtomicLong loadedRequests = new AtomicLong();
+    private final AtomicLong transferredBytes = new AtomicLong();
+    private volatile HarRecorder harRecorder;
+
+    private NetworkActivityTracker(String windowHandle) {
+        this.windowHandle = windowHandle;
+    }
+
+    /**
+     * Retrieves the tracker of the driver's current tab, attaching one if needed.
+     *
+     * @param driver The driver to track.
+     * @return The tracker, or {@code null} if the browser does not support the DevTools Protocol.
+     */
+    public static NetworkActivityTracker of(WebDriver driver) {
+        if (!(driver instanceof HasDevTools hasDevTools)) return null;
+
+        String currentHandle = driver.getWindowHandle();
+        synchronized (trackers) {
+            NetworkActivityTracker previousTracker = trackers.get(driver);
+            if (previousTracker != null && previousTracker.windowHandle.equals(currentHandle)) return previousTracker;
+
+            try {
+                NetworkActivityTracker tracker = new NetworkActivityTracker(currentHandle);
+
+                // Keep recording the traffic of the test in the new tab
+                if (previousTracker != null) tracker.harRecorder = previousTracker.harRecorder;
+                DevTools devTools = hasDevTools.getDevTools();
+                tracker.attach(devTools, currentHandle);
+                trackers.put(driver, tracker);
+                if (!listeningDrivers.contains(driver)) {
+                    addListeners(driver, devTools);
+                    listeningDrivers.add(driver);
+                }
+                return tracker;
+            } catch (RuntimeException ex) {
+                logger.warn("Network tracking is not available: {}", ex.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Retrieves the tracker already attached to a driver, without attaching a new one.
+     *
+     * @param driver The tracked driver.
+     * @return The tracker, or {@code null} if none is attached.
+     */
+    public static NetworkActivityTracker find(WebDriver driver) {
+        return driver == null ? null : trackers.get(driver);
+    }
+
+    /**
+     * Opens a DevTools session on the given tab and applies the resource blocking profile.
+     */
+    private void attach(DevTools devTools, String handle) {
+        devTools.createSession(handle);
+        devTools.send(new Command<>("Network.enable", Map.of()));
+        if (ResourceBlockingProfile.isEnabled()) {
+            devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", ResourceBlockingProfile.getBlockedUrlPatterns())));
+        }
+    }
+
+    /**
+     * Listens to request lifecycle events, once per driver: the listeners stay registered across tab switches and
+     * leases and route each event to the driver's current tracker. DevTools cannot remove single listeners,
+     * so listeners registered by other code are left untouched and none pile up.
+     */
+    private static void addListeners(WebDriver driver, DevTools devTools) {
+        devTools.addListener(new Event<>("Network.requestWillBeSent", NetworkActivityTracker::readParams), params -> {
+            NetworkActivityTracker tracker = trackers.get(driver);
+            if (tracker != null) tracker.onRequestWillBeSent(params);
+        });
+        devTools.addListener(new Event<>("Network.responseReceived", NetworkActivityTracker::readParams), params -> {
+            NetworkActivityTracker tracker = trackers.get(driver);
+            HarRecorder recorder = tracker == null ? null : tracker.harRecorder;
+            if (recorder != null) recorder.onResponseReceived(params);
+        });
+        devTools.addListener(new Event<>("Network.loadingFinished", NetworkActivityTracker::readParams), params -> {
+            NetworkActivityTracker tracker = trackers.get(driver);
+            if (tracker != null) tracker.onLoadingFinished(params);
+        });
+        devTools.addListener(new Event<>("Network.loadingFailed", NetworkActivityTracker::readParams), params -> {
+            NetworkActivityTracker tracker = trackers.get(driver);
+            if (tracker != null) tracker.onLoadingFailed(params);
+        });
+    }
+
+    private void onRequestWillBeSent(Map<String, Object> params) {
+        inflightRequests.put(String.valueOf(params.get("requestId")), System.nanoTime());
+        lastActivity.set(System.nanoTime());
+        HarRecorder recorder = harRecorder;
+        if (recorder != null) recorder.onRequestWillBeSent(params);
+    }
+
+    private void onLoadingFinished(Map<String, Object> params) {
+        loadedRequests.incrementAndGet();
+        if (params.get("encodedDataLength") instanceof Number length) transferredBytes.addAndGet(length.longValue());
+        finish(params);
+    }
+
+    private void onLoadingFailed(Map<String, Object> params) {
+        if (params.get("blockedReason") != null) blockedRequests.incrementAndGet();
+        finish(params);
+    }
+
+    private void finish(Map<String, Object> params) {
+        inflightRequests.remove(String.valueOf(params.get("requestId")));
+        lastActivity.set(System.nanoTime());
+        HarRecorder recorder = harRecorder;
+        if (recorder != null) recorder.onLoadingCompleted(params);
+    }
+
+    private static Map<String, Object> readParams(JsonInput input) {
+        return input.read(Json.MAP_TYPE);
+    }
+
+    /**
+     * Returns a summary of the requests seen since the last {@link #resetStatistics()}.
+     *
+     * @return The number of blocked requests, loaded requests and transferred bytes.
+     */
+    public String getStatistics() {
+        return "blocked %d requests, loaded %d requests, transferred %d KB".formatted(
+                blockedRequests.get(), loadedRequests.get(), transferredBytes.get() / 1024);
+    }
+
+    /**
+     * Starts or stops feeding the tab's traffic to a HAR recorder.
+     *
+     * @param recorder The recorder of the running test, or {@code null} to stop recording.
+     */
+    public void setHarRecorder(HarRecorder recorder) {
+        this.harRecorder = recorder;
+    }
+
+    /**
+     * Resets the request counters, typically at the start of a test.
+     */
+    public void resetStatistics() {
+        blockedRequests.set(0);
+        loadedRequests.set(0);
+        transferredBytes.set(0);
+    }
+
+    /**
+     * Checks whether the tab has had no request activity for the given quiet period.
+     *
+     * @param quietMillis The quiet period in milliseconds.
+     * @return {@code true} if no short-lived request is in flight and nothing started or finished during the quiet period.
+     */
+    public boolean isIdle(long quietMillis) {
+        long now = System.nanoTime();
+        boolean hasActiveRequest = inflightRequests.values().stream()
+                .anyMatch(startTime -> now - startTime < LONG_REQUEST_NANOS);
+        return !hasActiveRequest && now - lastActivity.get() >= quietMillis * 1_000_000;
+    }
+}
@@ -0,0 +1,180 @@
+package utility;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.Elements;
+import org.jsoup.select.NodeVisitor;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Read-only copy of the rendered DOM of a page, parsed with jsoup.
+ * <p>
+ * The DOM is captured in a single script execution and queried in-process, so reading many texts and attributes
+ * costs one WebDriver command instead of one or more per read. The capture works on a clone of the document and
+ * records what the parsed HTML alone cannot tell: elements that are not rendered, whose text is then empty as with
+ * {@link org.openqa.selenium.WebElement#getText()}, and the current value of form fields.
+ * A snapshot never changes: take a new one after any interaction with the page.
+ */
+public class PageSnapshot {
+    private static final String HIDDEN_ATTRIBUTE = "data-snapshot-hidden";
+    private static final String VALUE_ATTRIBUTE = "data-snapshot-value";
+
+    private static final String CAPTURE_SCRIPT = """
+            const root = document.documentElement;
+            const clone = root.cloneNode(true);
+            const source = document.createTreeWalker(root, NodeFilter.SHOW_ELEMENT);
+            const target = document.createTreeWalker(clone, NodeFilter.SHOW_ELEMENT);
+            for (let el = source.currentNode, copy = target.currentNode; el && copy;
+                 el = source.nextNode(), copy = target.nextNode()) {
+                if (document.body && document.body.contains(el) && !el.getClientRects().length) {
+                    copy.setAttribute('%s', '');
+                }
+                if (el instanceof HTMLInputElement || el instanceof HTMLTextAreaElement || el instanceof HTMLSelectElement) {
+                    copy.setAttribute('%s', el.value);
+                }
+            }
+            return '<!DOCTYPE html>' + clone.outerHTML;
+            """.formatted(HIDDEN_ATTRIBUTE, VALUE_ATTRIBUTE);
+
+    private final Document document;
+
+    private PageSnapshot(Document document) {
+        this.document = document;
+    }
+
+    /**
+     * Captures the current DOM of the page.
+     *
+     * @param driver The WebDriver instance displaying the page.
+     * @return The snapshot of the page.
+     */
+    public static PageSnapshot capture(WebDriver driver) {
+        String html = (String) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+        return new PageSnapshot(Jsoup.parse(html, driver.getCurrentUrl()));
+    }
+
+    /**
+     * Retrieves the parsed document, for checks not covered by the other methods.
+     *
+     * @return The jsoup document of the snapshot.
+     */
+    public Document getDocument() {
+        return document;
+    }
+
+    /**
+     * Checks whether at least one element matches the locator.
+     *
+     * @param locator The CSS or XPath locator.
+     * @return {@code true} if the element is present in the snapshot, rendered or not.
+     */
+    public boolean isPresent(By locator) {
+        return !select(locator).isEmpty();
+    }
+
+    /**
+     * Retrieves the visible text of the first element matching the locator.
+     *
+     * @param locator The CSS or XPath locator.
+     * @return The visible text, or an empty string if the element is not rendered.
+     * @throws NoSuchElementException if no element matches the locator.
+     */
+    public String getText(By locator) {
+        return getVisibleText(first(locator));
+    }
+
+    /**
+     * Retrieves the visible texts of all elements matching the locator.
+     *
+     * @param locator The CSS or XPath locator.
+     * @return The visible texts in document order.
+     */
+    public List<String> getTexts(By locator) {
+        return select(locator).stream().map(PageSnapshot::getVisibleText).toList();
+    }
+
+    /**
+     * Retrieves an attribute of the first element matching the locator.
+     * The "value" attribute of form fields returns the value at capture time.
+     *
+     * @param locator   The CSS or XPath locator.
+     * @param attribute The attribute name.
+     * @return The attribute value, or {@code null} if the element does not have the attribute.
+     * @throws NoSuchElementException if no element matches the locator.
+     */
+    public String getAttribute(By locator, String attribute) {
+        Element element = first(locator);
+        if (attribute.equals("value") && element.hasAttr(VALUE_ATTRIBUTE)) return element.attr(VALUE_ATTRIBUTE);
+        return element.hasAttr(attribute) ? element.attr(attribute) : null;
+    }
+
+    private Element first(By locator) {
+        Elements elements = select(locator);
+        if (elements.isEmpty()) throw new NoSuchElementException("No element found in page snapshot for " + locator);
+        return elements.first();
+    }
+
+    private Elements select(By locator) {
+        if (locator instanceof By.Remotable remotable) {
+            By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+            switch (parameters.using()) {
+                case "css selector" -> {
+                    return document.select(parameters.value());
+                }
+                case "xpath" -> {
+                    return document.selectXpath(parameters.value());
+                }
+                default -> {
+                }
+            }
+        }
+        throw new IllegalArgumentException("Page snapshots only support CSS and XPath locators: " + locator);
+    }
+
+    /**
+     * Computes the text of an element the way a browser renders it: hidden elements are skipped,
+     * white space is collapsed and block elements and line breaks start new lines.
+     */
+    private static String getVisibleText(Element element) {
+        if (element.hasAttr(HIDDEN_ATTRIBUTE)) return "";
+
+        StringBuilder text = new StringBuilder();
+        element.traverse(new NodeVisitor() {
+            @Override
+            public void head(Node node, int depth) {
+                if (node instanceof TextNode textNode && !isHidden(textNode)) {
+                    text.append(textNode.text());
+                } else if (node instanceof Element child && (child.normalName().equals("br") || child.isBlock())) {
+                    text.append('\n');
+                }
+            }
+
+            @Override
+            public void tail(Node node, int depth) {
+                if (node instanceof Element child && child.isBlock()) text.append('\n');
+            }
+        });
+
+        return Arrays.stream(text.toString().split("\n"))
+                .map(String::strip)
+                .filter(line -> !line.isEmpty())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static boolean isHidden(TextNode textNode) {
+        for (Node parent = textNode.parent(); parent instanceof Element ancestor; parent = ancestor.parent()) {
+            if (ancestor.hasAttr(HIDDEN_ATTRIBUTE) || ancestor.normalName().equals("script") || ancestor.normalName().equals("style")) return true;
+        }
+        return false;
+    }
+}
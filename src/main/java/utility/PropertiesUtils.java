@@ -2,14 +2,11 @@ package utility;
 
 import api.seller.login.APISellerLogin;
 import api.seller.setting.APIGetStoreURL;
-import org.testng.Assert;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Locale;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.ResourceBundle;
 
 /**
  * Utility class for loading and retrieving properties from a configuration file.
@@ -31,35 +28,27 @@ public class PropertiesUtils {
     }
 
     /**
-     * Retrieves the value associated with the specified key from the dashboard properties
+     * Retrieves the value associated with the specified key from the dashboard localization catalog
      * for the specified language key.
      *
-     * @param key     The key for the desired property.
-     * @param langKey The language key to determine which language-specific properties file to load.
-     * @return The property value as a String, or null if the key is not found.
+     * @param key     The localization key.
+     * @param langKey The language key, "en" for English or "vi" for Vietnamese.
+     * @return The localized value.
      */
-    public static String getDashboardProperty(String key, String langKey) {
-        Assert.assertTrue(
-                langKey.contains("en") || langKey.equals("vi"),
-                "LangKey must be 'en' (English) or 'vi' (Vietnamese)"
-        );
-        Locale locale = Locale.forLanguageTag(langKey); // "en" for English, "vi" for Vietnamese
-        ResourceBundle bundle = ResourceBundle.getBundle("localization/dashboard", locale);
-        return bundle.getString(key);
+    public static String getDashboardProperty(LocalizationCatalog.Key key, String langKey) {
+        return LocalizationCatalog.get(key, langKey);
     }
 
     /**
-     * Retrieves the value associated with the specified key from the storefront properties
+     * Retrieves the value associated with the specified key from the storefront localization catalog
      * for the specified language key.
      *
-     * @param key     The key for the desired property.
-     * @param langKey The language key to determine which language-specific properties file to load.
-     * @return The property value as a String, or null if the key is not found.
+     * @param key     The localization key.
+     * @param langKey The language key, "en" for English or "vi" for Vietnamese.
+     * @return The localized value.
      */
-    public static String getStorefrontProperty(String key, String langKey) {
-        Locale locale = Locale.forLanguageTag(langKey); // "en" for English, "vi" for Vietnamese
-        ResourceBundle bundle = ResourceBundle.getBundle("localization/dashboard", locale);
-        return bundle.getString(key);
+    public static String getStorefrontProperty(LocalizationCatalog.Key key, String langKey) {
+        return LocalizationCatalog.get(key, langKey);
     }
 
     /**
@@ -198,4 +187,267 @@ public class PropertiesUtils {
     public static String getIOSBuyerAppURL() {
         return getProperty("iosBUYERApp");
     }
+
+    /**
+     * Retrieves the reaper mode used to clean up auto-generated data.
+     * Supported values are "off", "suiteEnd" and "scheduled". Defaults to "off".
+     *
+     * @return The reaper mode property value or "off" if not set.
+     */
+    public static String getReaperMode() {
+        return Optional.ofNullable(getProperty("reaperMode")).orElse("off");
+    }
+
+    /**
+     * Retrieves the number of parallel threads the reaper uses for deletion. Defaults to 4.
+     *
+     * @return The reaper thread count.
+     */
+    public static int getReaperThreads() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("reaperThreads")).orElse("4"));
+    }
+
+    /**
+     * Retrieves the maximum number of delete requests per second sent by the reaper. Defaults to 5.
+     *
+     * @return The reaper request rate.
+     */
+    public static double getReaperRequestsPerSecond() {
+        return Double.parseDouble(Optional.ofNullable(getProperty("reaperRequestsPerSecond")).orElse("5"));
+    }
+
+    /**
+     * Retrieves the number of entities the reaper deletes per batch. Defaults to 20.
+     *
+     * @return The reaper batch size.
+     */
+    public static int getReaperBatchSize() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("reaperBatchSize")).orElse("20"));
+    }
+
+    /**
+     * Retrieves the minimum age in minutes an auto-generated entity must reach before it is reaped. Defaults to 60.
+     *
+     * @return The minimum age in minutes.
+     */
+    public static int getReaperMinAgeMinutes() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("reaperMinAgeMinutes")).orElse("60"));
+    }
+
+    /**
+     * Retrieves the interval in minutes between scheduled reaper runs. Defaults to 30.
+     *
+     * @return The reaper interval in minutes.
+     */
+    public static int getReaperIntervalMinutes() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("reaperIntervalMinutes")).orElse("30"));
+    }
+
+    /**
+     * Retrieves the directory where downloaded address catalogs are persisted. Defaults to "cache/address-catalog".
+     *
+     * @return The address catalog directory.
+     */
+    public static String getAddressCatalogDirectory() {
+        return Optional.ofNullable(getProperty("addressCatalogDirectory")).orElse("cache/address-catalog");
+    }
+
+    /**
+     * Retrieves the number of days a persisted address catalog is reused before it is downloaded again. Defaults to 30.
+     *
+     * @return The address catalog maximum age in days.
+     */
+    public static int getAddressCatalogMaxAgeDays() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("addressCatalogMaxAgeDays")).orElse("30"));
+    }
+
+    /**
+     * Retrieves the maximum number of browsers kept alive by the web driver pool.
+     * Defaults to the TestNG thread count passed with {@code -DthreadCount}, or 1 when running sequentially.
+     *
+     * @return The web driver pool size.
+     */
+    public static int getWebDriverPoolSize() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("webDriverPoolSize"))
+                .orElse(System.getProperty("threadCount", "1")));
+    }
+
+    /**
+     * Retrieves the number of leases after which a pooled browser is quit and replaced. Defaults to 20.
+     *
+     * @return The maximum number of leases per pooled browser.
+     */
+    public static int getWebDriverPoolMaxLeases() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("webDriverPoolMaxLeases")).orElse("20"));
+    }
+
+    /**
+     * Retrieves the path of the local manifest recording resolved browser driver binaries.
+     * Defaults to "~/.cache/selenium/driver-manifest.json", shared by every project on the machine.
+     *
+     * @return The driver manifest path.
+     */
+    public static String getDriverManifestPath() {
+        return Optional.ofNullable(getProperty("driverManifestPath"))
+                .orElse(System.getProperty("user.home") + "/.cache/selenium/driver-manifest.json");
+    }
+
+    /**
+     * Retrieves the resource blocking mode: "off", "headless" or "on". Defaults to "off".
+     *
+     * @return The resource blocking mode.
+     */
+    public static String getResourceBlocking() {
+        return Optional.ofNullable(getProperty("resourceBlocking")).orElse("off");
+    }
+
+    /**
+     * Retrieves the comma-separated resource classes blocked when resource blocking is enabled.
+     * Defaults to "image,font,media,analytics,widget".
+     *
+     * @return The blocked resource classes.
+     */
+    public static String getBlockedResourceClasses() {
+        return Optional.ofNullable(getProperty("blockedResourceClasses")).orElse("image,font,media,analytics,widget");
+    }
+
+    /**
+     * Retrieves the interaction mode used by {@link WebUtils} for clicks and text input.
+     * "native" (default) uses WebDriver events, with their actionability checks and real focus and keyboard input.
+     * "script" opts in to the single-round-trip {@link InteractionEngine}, which dispatches synthetic events.
+     *
+     * @return The interaction mode.
+     */
+    public static String getInteractionMode() {
+        return Optional.ofNullable(getProperty("interactionMode")).orElse("native");
+    }
+
+    /**
+     * Retrieves the default {@link ExecutionProfile}: "debug", "standard" or "throughput". Defaults to "standard".
+     * Suites can override it with the {@code executionProfile} suite parameter.
+     *
+     * @return The execution profile name.
+     */
+    public static String getExecutionProfile() {
+        return Optional.ofNullable(getProperty("executionProfile")).orElse("standard");
+    }
+
+    /**
+     * Retrieves how storefront verifications read the page: "snapshot" (default) reads a parsed
+     * {@link PageSnapshot} of the rendered DOM, "webdriver" reads each value through WebDriver.
+     *
+     * @return The verification mode.
+     */
+    public static String getVerificationMode() {
+        return Optional.ofNullable(getProperty("verificationMode")).orElse("snapshot");
+    }
+
+    /**
+     * Retrieves whether {@link WebUtils} caches found elements in an {@link ElementCache}: "on" (default) or "off".
+     *
+     * @return The element cache mode.
+     */
+    public static String getElementCache() {
+        return Optional.ofNullable(getProperty("elementCache")).orElse("on");
+    }
+
+    /**
+     * Retrieves the number of isolated browser contexts used to verify storefront product variations concurrently.
+     * Defaults to 3, 1 verifies the variations one after another in the test's tab.
+     *
+     * @return The number of browser contexts.
+     */
+    public static int getStorefrontVerificationContexts() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("storefrontVerificationContexts")).orElse("3"));
+    }
+
+    /**
+     * Retrieves whether the {@link BrowserMemoryWatchdog} samples browser memory between web tests: "on" (default) or "off".
+     *
+     * @return The browser memory watchdog mode.
+     */
+    public static String getBrowserMemoryWatchdog() {
+        return Optional.ofNullable(getProperty("browserMemoryWatchdog")).orElse("on");
+    }
+
+    /**
+     * Retrieves the resident memory of a browser, in MB, above which it is recycled between tests. Defaults to 1536.
+     * The memory is the proportional set size summed over the browser's processes. On kernels without
+     * {@code /proc/<pid>/smaps_rollup} it is the plain RSS, an upper bound that counts shared pages once per process.
+     *
+     * @return The maximum browser RSS in MB.
+     */
+    public static long getBrowserMaxRssMb() {
+        return Long.parseLong(Optional.ofNullable(getProperty("browserMaxRssMb")).orElse("1536"));
+    }
+
+    /**
+     * Retrieves the JS heap used by the current page, in MB, above which the browser is recycled between tests. Defaults to 384.
+     *
+     * @return The maximum JS heap in MB.
+     */
+    public static long getBrowserMaxJsHeapMb() {
+        return Long.parseLong(Optional.ofNullable(getProperty("browserMaxJsHeapMb")).orElse("384"));
+    }
+
+    /**
+     * Retrieves whether the web drivers record their commands through {@link CommandTelemetry}: "on" (default) or "off".
+     *
+     * @return The command telemetry mode.
+     */
+    public static String getCommandTelemetry() {
+        return Optional.ofNullable(getProperty("commandTelemetry")).orElse("on");
+    }
+
+    /**
+     * Retrieves whether the network traffic of each web test is recorded to a compressed HAR file by
+     * {@link HarRecorder}: "on" or "off" (default).
+     *
+     * @return The HAR capture mode.
+     */
+    public static String getHarCapture() {
+        return Optional.ofNullable(getProperty("harCapture")).orElse("off");
+    }
+
+    /**
+     * Retrieves the maximum size of a compressed HAR file written by {@link HarRecorder}, in megabytes.
+     * Entries beyond it are left out of the file. Defaults to 50.
+     *
+     * @return The maximum HAR file size in megabytes.
+     */
+    public static long getHarMaxMb() {
+        return Long.parseLong(Optional.ofNullable(getProperty("harMaxMb")).orElse("50"));
+    }
+
+    /**
+     * Retrieves whether Android locators are resolved from a UI hierarchy snapshot by {@link AndroidHierarchyFinder}:
+     * "on" (default) or "off" to search with UiScrollable on the device.
+     *
+     * @return The Android hierarchy finder mode.
+     */
+    public static String getAndroidHierarchyFinder() {
+        return Optional.ofNullable(getProperty("androidHierarchyFinder")).orElse("on");
+    }
+
+    /**
+     * Retrieves whether each device keeps one Appium session for the whole suite through {@link MobileSessionManager}:
+     * "on" (default) or "off" to start a new session for every test class.
+     *
+     * @return The mobile session reuse mode.
+     */
+    public static String getMobileSessionReuse() {
+        return Optional.ofNullable(getProperty("mobileSessionReuse")).orElse("on");
+    }
+
+    /**
+     * Retrieves the deep link opening a screen of a mobile app, with {@code {id}} standing for the displayed entity,
+     * e.g. {@code androidSELLERProductDetailDeepLink=gosellseller://product/{id}}.
+     *
+     * @param app    The platform and app, such as "androidSELLER" or "iosBUYER".
+     * @param screen The screen, such as "ProductDetail".
+     * @return The deep link template, or {@code null} if the screen has none.
+     */
+    public static String getDeepLink(String app, String screen) {
+        return getProperty("%s%sDeepLink".formatted(app, screen));
+    }
 }
@@ -0,0 +1,67 @@
+package utility;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request-blocking profile used to speed up web runs.
+ * <p>
+ * Blocks resource classes that assertions never read, such as images, fonts, media, analytics and
+ * third-party widgets. The profile is applied per tab by {@link NetworkActivityTracker} through
+ * CDP {@code Network.setBlockedURLs}, so it only takes effect on Chromium browsers.
+ * <ul>
+ *     <li>{@code resourceBlocking}: "off" (default), "headless" to block only in headless runs, or "on".</li>
+ *     <li>{@code blockedResourceClasses}: comma-separated classes to block, defaults to all classes.</li>
+ * </ul>
+ */
+public class ResourceBlockingProfile {
+
+    // URL patterns by resource class, "*" matches any sequence of characters
+    private static final Map<String, List<String>> patternsByClass = Map.of(
+            "image", List.of("*.png", "*.png?*", "*.jpg", "*.jpg?*", "*.jpeg", "*.jpeg?*", "*.gif", "*.gif?*",
+                    "*.webp", "*.webp?*", "*.svg", "*.svg?*", "*.ico", "*.ico?*"),
+            "font", List.of("*.woff", "*.woff?*", "*.woff2", "*.woff2?*", "*.ttf", "*.ttf?*", "*.otf", "*.otf?*", "*.eot", "*.eot?*"),
+            "media", List.of("*.mp4", "*.mp4?*", "*.webm", "*.webm?*", "*.mp3", "*.mp3?*"),
+            "analytics", List.of("*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*",
+                    "*connect.facebook.net*", "*hotjar.com*", "*clarity.ms*"),
+            "widget", List.of("*facebook.com/plugins*", "*sp.zalo.me*", "*embed.tawk.to*", "*widget.intercom.io*"));
+
+    private static final List<String> blockedUrlPatterns = resolveBlockedUrlPatterns();
+
+    /**
+     * Checks whether resource blocking applies to the current run.
+     *
+     * @return {@code true} if the profile is "on", or "headless" and the browser runs headless.
+     */
+    public static boolean isEnabled() {
+        return switch (PropertiesUtils.getResourceBlocking()) {
+            case "on" -> true;
+            case "headless" -> PropertiesUtils.getHeadless();
+            default -> false;
+        };
+    }
+
+    /**
+     * Retrieves the URL patterns blocked by the configured resource classes.
+     *
+     * @return The blocked URL patterns.
+     */
+    public static List<String> getBlockedUrlPatterns() {
+        return blockedUrlPatterns;
+    }
+
+    private static List<String> resolveBlockedUrlPatterns() {
+        return Arrays.stream(PropertiesUtils.getBlockedResourceClasses().split(","))
+                .map(String::trim)
+                .filter(resourceClass -> !resourceClass.isEmpty())
+                .flatMap(resourceClass -> {
+                    List<String> patterns = patternsByClass.get(resourceClass);
+                    if (patterns == null) {
+                        throw new IllegalArgumentException("Unknown blocked resource class: " + resourceClass);
+                    }
+                    return patterns.stream();
+                })
+                .toList();
+    }
+}
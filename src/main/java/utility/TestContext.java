@@ -0,0 +1,88 @@
+package utility;
+
+import com.aventstack.extentreports.ExtentTest;
+import org.apache.logging.log4j.ThreadContext;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe execution context shared by the test classes and {@link ListenerUtils}.
+ * <p>
+ * Drivers are registered per test class instance, so each class running in parallel keeps its own driver.
+ * The running {@link ExtentTest} and the test name are bound to the executing thread; the test name is also
+ * exposed to the logs through the {@code testName} key of the log4j thread context (MDC). The {@code testId} key
+ * identifies the running test method uniquely, even when classes running in parallel share method names.
+ */
+public class TestContext {
+    private static final String TEST_NAME_KEY = "testName";
+    private static final String TEST_ID_KEY = "testId";
+
+    // Drivers by test class instance
+    private static final Map<Object, WebDriver> drivers = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    // Extent test of the test method running on the current thread
+    private static final ThreadLocal<ExtentTest> currentTest = new ThreadLocal<>();
+
+    /**
+     * Registers the driver used by a test class instance.
+     *
+     * @param testInstance The test class instance.
+     * @param driver       The driver used by the instance.
+     */
+    public static void registerDriver(Object testInstance, WebDriver driver) {
+        drivers.put(testInstance, driver);
+    }
+
+    /**
+     * Removes the driver registered for a test class instance.
+     *
+     * @param testInstance The test class instance.
+     */
+    public static void unregisterDriver(Object testInstance) {
+        drivers.remove(testInstance);
+    }
+
+    /**
+     * Retrieves the driver registered for a test class instance.
+     *
+     * @param testInstance The test class instance.
+     * @return The registered driver, or {@code null} if the instance has no driver.
+     */
+    public static WebDriver getDriver(Object testInstance) {
+        return testInstance == null ? null : drivers.get(testInstance);
+    }
+
+    /**
+     * Binds a test method to the current thread.
+     *
+     * @param testId   The unique identifier of the test method invocation, such as its class, method and result.
+     * @param testName The name of the test.
+     * @param test     The Extent test of the method.
+     */
+    public static void startTest(String testId, String testName, ExtentTest test) {
+        currentTest.set(test);
+        ThreadContext.put(TEST_ID_KEY, testId);
+        ThreadContext.put(TEST_NAME_KEY, testName);
+    }
+
+    /**
+     * Unbinds the test method running on the current thread.
+     */
+    public static void finishTest() {
+        currentTest.remove();
+        ThreadContext.remove(TEST_ID_KEY);
+        ThreadContext.remove(TEST_NAME_KEY);
+    }
+
+    /**
+     * Retrieves the Extent test of the method running on the current thread.
+     *
+     * @return The current {@link ExtentTest}, or {@code null} outside a test method.
+     */
+    public static ExtentTest getCurrentTest() {
+        return currentTest.get();
+    }
+}
@@ -0,0 +1,30 @@
+package utility;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * A TestNG listener that applies the {@code -DthreadCount=N} system property to the parallel suites.
+ * <p>
+ * TestNG does not substitute system properties in the {@code thread-count} attribute of a suite file,
+ * so the suites declare this listener and keep their {@code thread-count} as the default.
+ * The {@link WebDriverPool} is sized from the same property, so every parallel class gets a browser.
+ */
+public class ThreadCountListener implements IAlterSuiteListener {
+    private static final Logger logger = LogManager.getLogger();
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String threadCount = System.getProperty("threadCount");
+        if (threadCount == null || threadCount.isBlank()) return;
+
+        for (XmlSuite suite : suites) {
+            suite.setThreadCount(Integer.parseInt(threadCount.trim()));
+            logger.info("Running suite {} with {} thread(s)", suite.getName(), suite.getThreadCount());
+        }
+    }
+}
@@ -6,20 +6,18 @@ import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.ios.options.XCUITestOptions;
 import org.apache.logging.log4j.LogManager;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.logging.LogEntries;
 import org.openqa.selenium.logging.LogEntry;
 import org.openqa.selenium.logging.LogType;
-import org.openqa.selenium.safari.SafariDriver;
 
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * WebDriverManager is a utility class for setting up and managing different types of WebDriver instances
@@ -29,6 +27,9 @@ public class WebDriverManager {
     public static String appBundleId;
     private static final String url = "http://127.0.0.1:4723/wd/hub";
 
+    // iOS bundle IDs by app URL, resolved once per run
+    private static final Map<String, String> iosBundleIds = new ConcurrentHashMap<>();
+
     /**
      * Initializes and returns an AndroidDriver instance.
      *
@@ -61,16 +62,17 @@ public class WebDriverManager {
 
     /**
      * Initializes and returns an IOSDriver instance.
-     * It also attempts to extract the app's bundle ID from the Appium server logs
-     * if the app is already installed on the device.
+     * The app's bundle ID is resolved once per app, from the session capabilities or else
+     * from the Appium server logs.
      *
      * @param udid    The unique device identifier.
+     * @param appUrl  The URL the app was downloaded from, identifying the app.
      * @param appPath The path to the app to be tested.
      * @return An instance of IOSDriver.
      * @throws MalformedURLException If the URL is malformed.
      * @throws URISyntaxException    If the URI syntax is incorrect.
      */
-    public static IOSDriver getIOSDriver(String udid, String appPath) throws MalformedURLException, URISyntaxException {
+    public static IOSDriver getIOSDriver(String udid, String appUrl, String appPath) throws MalformedURLException, URISyntaxException {
         XCUITestOptions options = new XCUITestOptions();
         options.setCapability("appium:udid", udid);
         options.setCapability("platformName", "iOS");
@@ -81,20 +83,40 @@ public class WebDriverManager {
         options.setCapability("appium:app", appPath);
 
         IOSDriver driver = new IOSDriver(new URI(url).toURL(), options);
+        String bundleId = iosBundleIds.get(appUrl);
+        if (bundleId == null) {
+            bundleId = resolveIOSBundleId(driver);
+            if (bundleId != null) iosBundleIds.put(appUrl, bundleId);
+        }
+        appBundleId = bundleId;
+
+        LogManager.getLogger().info("IOS app bundle ID: {}", appBundleId);
+        return driver;
+    }
+
+    /**
+     * Resolves the bundle ID of the app under test from the session capabilities,
+     * or else by scanning the Appium server logs.
+     *
+     * @param driver The IOSDriver instance.
+     * @return The bundle ID, or {@code null} if it could not be resolved.
+     */
+    private static String resolveIOSBundleId(IOSDriver driver) {
+        Object bundleId = driver.getCapabilities().getCapability("bundleId");
+        if (bundleId != null) return bundleId.toString();
+
         LogEntries serverLogs = driver.manage().logs().get(LogType.SERVER);
         for (LogEntry log : serverLogs) {
             if (log.getMessage().contains("CFBundleIdentifier: ")) {
-                appBundleId = log.getMessage().split("\"")[1];
-                break;
+                return log.getMessage().split("\"")[1];
             }
         }
-
-        LogManager.getLogger().info("IOS app bundle ID: {}", appBundleId);
-        return driver;
+        return null;
     }
 
     /**
      * Initializes and returns a WebDriver instance for the specified browser.
+     * The driver records its commands through {@link CommandTelemetry}.
      *
      * @return An instance of WebDriver for the specified browser.
      */
@@ -103,36 +125,39 @@ public class WebDriverManager {
         boolean headless = PropertiesUtils.getHeadless();
         switch (PropertiesUtils.getBrowser()) {
             case "firefox" -> {
-                io.github.bonigarcia.wdm.WebDriverManager.firefoxdriver().setup();
+                DriverBinaryResolver.resolve("firefox");
                 FirefoxOptions firefoxOptions = new FirefoxOptions();
                 if (headless) firefoxOptions.addArguments("--headless");
                 firefoxOptions.addArguments("--no-sandbox");
-                driver = new FirefoxDriver(firefoxOptions);
+                driver = new CommandTelemetry.Firefox(firefoxOptions);
             }
             case "edge" -> {
-                io.github.bonigarcia.wdm.WebDriverManager.edgedriver().setup();
+                DriverBinaryResolver.resolve("edge");
                 EdgeOptions edgeOptions = new EdgeOptions();
                 if (headless) edgeOptions.addArguments("--headless");
                 edgeOptions.addArguments("--no-sandbox");
-                driver = new EdgeDriver(edgeOptions);
+                driver = new CommandTelemetry.Edge(edgeOptions);
             }
             case "safari" -> {
                 io.github.bonigarcia.wdm.WebDriverManager.safaridriver().setup();
-                driver = new SafariDriver();
+                driver = new CommandTelemetry.Safari();
             }
             default -> {
-                io.github.bonigarcia.wdm.WebDriverManager.chromedriver().setup();
+                DriverBinaryResolver.resolve("chrome");
                 ChromeOptions chromeOptions = new ChromeOptions();
                 if (headless) chromeOptions.addArguments("--headless");
                 chromeOptions.addArguments("--disable-site-isolation-trials");
                 chromeOptions.addArguments("--disable-dev-shm-usage");
                 chromeOptions.addArguments("--remote-allow-origins=*");
                 chromeOptions.addArguments("--no-sandbox");
-                driver = new ChromeDriver(chromeOptions);
+                driver = new CommandTelemetry.Chrome(chromeOptions);
             }
         }
 
         driver.manage().window().maximize();
+
+        // Track requests, block the configured resource classes and capture traffic from the first page load
+        NetworkActivityTracker.of(driver);
         return driver;
     }
 }
\ No newline at end of file
@@ -0,0 +1,284 @@
+package utility;
+
+import com.google.common.base.Suppliers;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool of pre-launched browsers shared by the web test classes.
+ * <p>
+ * The first lease launches one browser and warms up the rest of the pool in the background.
+ * When a browser is released, its state is reset (extra tabs, cookies, localStorage and sessionStorage)
+ * and it is handed to the next lease. A browser is quit and replaced in the background after
+ * {@code webDriverPoolMaxLeases} leases, when it crashes, or when its state cannot be fully reset.
+ * The pool never keeps more than {@code webDriverPoolSize} browsers alive.
+ */
+public class WebDriverPool {
+    private static final Logger logger = LogManager.getLogger();
+    private static final WebDriverPool instance = new WebDriverPool(
+            PropertiesUtils.getWebDriverPoolSize(), PropertiesUtils.getWebDriverPoolMaxLeases());
+
+    private final int size;
+    private final int maxLeases;
+    private final BlockingQueue<PooledBrowser> idleBrowsers = new LinkedBlockingQueue<>();
+    private final Map<WebDriver, PooledBrowser> leasedBrowsers = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final AtomicInteger liveBrowsers = new AtomicInteger();
+    private final ExecutorService launcher = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "web-driver-pool");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean warmedUp;
+
+    // Origins of the applications under test, whose storage is cleared on release
+    private final Supplier<List<String>> testedOrigins = Suppliers.memoize(WebDriverPool::resolveTestedOrigins);
+
+    /**
+     * A pooled browser and the number of times it has been leased.
+     */
+    private static class PooledBrowser {
+        private final WebDriver driver;
+        private int leases;
+
+        private PooledBrowser(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+
+    private WebDriverPool(int size, int maxLeases) {
+        this.size = Math.max(1, size);
+        this.maxLeases = Math.max(1, maxLeases);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "web-driver-pool-shutdown"));
+    }
+
+    /**
+     * Leases a browser from the pool, launching one if no idle browser is available and the pool is not full.
+     * Blocks until a browser is released when all browsers are in use.
+     *
+     * @return A clean {@link WebDriver} instance.
+     */
+    public static WebDriver lease() {
+        return instance.leaseBrowser();
+    }
+
+    /**
+     * Returns a leased browser to the pool. Drivers that were not leased from the pool are quit.
+     *
+     * @param driver The driver to release.
+     */
+    public static void release(WebDriver driver) {
+        instance.releaseBrowser(driver);
+    }
+
+    /**
+     * Quits a leased browser instead of returning it to the pool, and launches its replacement in the background.
+     * Used when a browser is still healthy but should not be reused, e.g. after growing too large in memory.
+     *
+     * @param driver The driver to discard.
+     */
+    public static void discard(WebDriver driver) {
+        instance.discardBrowser(driver);
+    }
+
+    private WebDriver leaseBrowser() {
+        warmUp();
+        PooledBrowser browser;
+        try {
+            while ((browser = idleBrowsers.poll()) == null) {
+                if (reserveSlot()) {
+                    browser = launch();
+                    break;
+                }
+                browser = idleBrowsers.poll(1, TimeUnit.SECONDS);
+                if (browser != null) break;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a pooled browser", e);
+        }
+
+        browser.leases++;
+        leasedBrowsers.put(browser.driver, browser);
+
+        // The reset replaced the tab, attach the network tracker to the new one
+        NetworkActivityTracker.of(browser.driver);
+        logger.info("Leased pooled browser ({}/{} leases)", browser.leases, maxLeases);
+        return browser.driver;
+    }
+
+    private void releaseBrowser(WebDriver driver) {
+        if (driver == null) return;
+
+        PooledBrowser browser = leasedBrowsers.remove(driver);
+        if (browser == null) {
+            quitQuietly(driver);
+            return;
+        }
+
+        if (browser.leases >= maxLeases) {
+            logger.info("Recycling pooled browser after {} leases", browser.leases);
+            recycle(browser);
+        } else if (!reset(browser.driver)) {
+            recycle(browser);
+        } else {
+            idleBrowsers.offer(browser);
+        }
+    }
+
+    private void discardBrowser(WebDriver driver) {
+        if (driver == null) return;
+
+        PooledBrowser browser = leasedBrowsers.remove(driver);
+        if (browser == null) quitQuietly(driver);
+        else recycle(browser);
+    }
+
+    /**
+     * Launches the remaining browsers of the pool in the background on the first lease.
+     */
+    private synchronized void warmUp() {
+        if (warmedUp) return;
+        warmedUp = true;
+        for (int i = 1; i < size; i++) {
+            launchInBackground();
+        }
+    }
+
+    /**
+     * Reserves a slot for a new browser if the pool is not full.
+     *
+     * @return {@code true} if a slot was reserved.
+     */
+    private boolean reserveSlot() {
+        return liveBrowsers.getAndUpdate(count -> count < size ? count + 1 : count) < size;
+    }
+
+    /**
+     * Launches a browser in a reserved slot, releasing the slot if the launch fails.
+     */
+    private PooledBrowser launch() {
+        try {
+            return new PooledBrowser(WebDriverManager.getWebDriver());
+        } catch (RuntimeException ex) {
+            liveBrowsers.decrementAndGet();
+            throw ex;
+        }
+    }
+
+    /**
+     * Launches a browser in the background and adds it to the idle browsers when the pool is not full.
+     */
+    private void launchInBackground() {
+        if (!reserveSlot()) return;
+        launcher.execute(() -> {
+            try {
+                idleBrowsers.offer(launch());
+            } catch (RuntimeException ex) {
+                logger.warn("Failed to pre-launch pooled browser: {}", ex.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Quits a browser and launches its replacement in the background.
+     */
+    private void recycle(PooledBrowser browser) {
+        quitQuietly(browser.driver);
+        liveBrowsers.decrementAndGet();
+        launchInBackground();
+    }
+
+    /**
+     * Resets the state of a browser so the next lease starts clean.
+     * Extra tabs are closed and the remaining tab is replaced by a fresh one, which drops sessionStorage.
+     * On Chromium browsers all cookies and the storage of the tested origins are cleared through CDP.
+     * Other browsers cannot clear state for every origin without a restart, so they are recycled instead.
+     *
+     * @param driver The browser to reset.
+     * @return {@code true} if the browser is healthy and was fully reset, {@code false} otherwise.
+     */
+    private boolean reset(WebDriver driver) {
+        if (!(driver instanceof ChromiumDriver chromiumDriver)) {
+            logger.info("Recycling pooled browser, {} state cannot be reset in place", PropertiesUtils.getBrowser());
+            return false;
+        }
+
+        try {
+            // Clear the storage of the current page, which may belong to an origin outside the tested ones
+            ((JavascriptExecutor) driver).executeScript("try { localStorage.clear(); sessionStorage.clear(); } catch (e) {}");
+
+            // Replace all tabs by a single fresh one
+            Set<String> oldHandles = driver.getWindowHandles();
+            String freshHandle = driver.switchTo().newWindow(WindowType.TAB).getWindowHandle();
+            for (String handle : oldHandles) {
+                driver.switchTo().window(handle).close();
+            }
+            driver.switchTo().window(freshHandle);
+
+            // Clear cookies of every domain and the storage of the tested origins
+            chromiumDriver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            for (String origin : testedOrigins.get()) {
+                chromiumDriver.executeCdpCommand("Storage.clearDataForOrigin",
+                        Map.of("origin", origin, "storageTypes", "local_storage,indexeddb,cache_storage,service_workers"));
+            }
+            return true;
+        } catch (RuntimeException ex) {
+            logger.warn("Recycling pooled browser, reset failed: {}", ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Resolves the origins of the dashboard and the storefront.
+     *
+     * @return The origins whose storage is cleared between leases.
+     */
+    private static List<String> resolveTestedOrigins() {
+        List<String> origins = new ArrayList<>();
+        origins.add(toOrigin(PropertiesUtils.getDomain()));
+        try {
+            origins.add(toOrigin(PropertiesUtils.getStoreURL()));
+        } catch (RuntimeException | AssertionError ex) {
+            logger.warn("Storefront storage will not be cleared between leases: {}", ex.getMessage());
+        }
+        return List.copyOf(origins);
+    }
+
+    private static String toOrigin(String url) {
+        URI uri = URI.create(url);
+        return uri.getPort() == -1
+                ? "%s://%s".formatted(uri.getScheme(), uri.getHost())
+                : "%s://%s:%d".formatted(uri.getScheme(), uri.getHost(), uri.getPort());
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException ex) {
+            logger.debug("Failed to quit browser: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Quits every browser of the pool. Runs automatically when the JVM shuts down.
+     */
+    private void shutdown() {
+        launcher.shutdownNow();
+        List<WebDriver> drivers = new ArrayList<>();
+        idleBrowsers.forEach(browser -> drivers.add(browser.driver));
+        synchronized (leasedBrowsers) {
+            drivers.addAll(leasedBrowsers.keySet());
+        }
+        drivers.forEach(WebDriverPool::quitQuietly);
+    }
+}
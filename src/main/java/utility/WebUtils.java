@@ -6,12 +6,14 @@ import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -27,6 +29,8 @@ public class WebUtils {
 
     protected WebDriver driver;
     protected WebDriverWait wait;
+    protected InteractionEngine interactionEngine;
+    protected ElementCache elementCache;
 
     /**
      * Constructs a WebUtils object with the specified WebDriver.
@@ -36,26 +40,53 @@ public class WebUtils {
     public WebUtils(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS));
+        this.interactionEngine = new InteractionEngine(driver);
+        this.elementCache = ElementCache.of(driver);
     }
 
 
     private static final Logger logger = LogManager.getLogger();
 
+    // Reads the texts, an attribute or the row cells of all elements matching an XPath or CSS locator
+    private static final String EXTRACT_SCRIPT = """
+            const [using, value, mode, name] = arguments;
+            let nodes;
+            if (using === 'xpath') {
+                const snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                nodes = Array.from({length: snapshot.snapshotLength}, (_, i) => snapshot.snapshotItem(i));
+            } else {
+                nodes = Array.from(document.querySelectorAll(value));
+            }
+            const text = el => el.getClientRects().length ? el.innerText.trim() : '';
+            const attribute = el => {
+                const v = name in el ? el[name] : el.getAttribute(name);
+                if (typeof v === 'boolean') return v ? 'true' : null;
+                return v == null ? null : String(v);
+            };
+            const cells = el => Array.from(el.querySelectorAll(':scope > td, :scope > th')).map(text);
+            return nodes.map(mode === 'text' ? text : mode === 'attribute' ? attribute : cells);
+            """;
+
     /**
      * Performs a given action with optional logging and verification.
+     * <p>
+     * The action runs as a named step of the current {@link ExecutionProfile}, which decides whether the message is logged.
      *
-     * @param logMessage a message to be logged before performing the action; can be null or empty.
+     * @param logMessage a message describing the action; can be null or empty.
      * @param action     the action to be performed, represented as a {@link Runnable}.
      * @param verifier   an optional action to verify the primary action; can be null.
      * @throws IllegalArgumentException if the action is null.
      */
     public static void performAction(String logMessage, Runnable action, Runnable verifier) {
-        if (logMessage != null && !logMessage.isEmpty()) logger.info(logMessage);
-
         if (action == null) {
             throw new IllegalArgumentException("Action must be provided.");
         }
-        action.run();
+
+        if (logMessage != null && !logMessage.isEmpty()) {
+            ExecutionProfile.current().run(ActionDecorator.Step.named(logMessage), action);
+        } else {
+            action.run();
+        }
 
         if (verifier != null) {
             verifier.run();
@@ -171,6 +202,95 @@ public class WebUtils {
         }
     }
 
+    /**
+     * Waits until the page has no network activity for the given quiet period.
+     * On Chromium browsers, in-flight requests are tracked through the DevTools Protocol and the wait returns
+     * as soon as the tab goes quiet. Other browsers fall back to the document ready state and the Resource Timing API.
+     *
+     * @param quietMillis     The period without request activity considered as idle, in milliseconds.
+     * @param timeoutInMillis Optional maximum wait in milliseconds. Defaults to {@link #DEFAULT_TIMEOUT_SECONDS}.
+     */
+    public void waitForNetworkIdle(long quietMillis, int... timeoutInMillis) {
+        int timeout = timeoutInMillis.length == 0 ? DEFAULT_TIMEOUT_SECONDS * 1000 : timeoutInMillis[0];
+        NetworkActivityTracker tracker = NetworkActivityTracker.of(driver);
+        WebDriverWait networkWait = new WebDriverWait(driver, Duration.ofMillis(timeout), Duration.ofMillis(50));
+
+        try {
+            if (tracker != null) {
+                networkWait.until(_ -> tracker.isIdle(quietMillis));
+                return;
+            }
+
+            // Fallback: the number of loaded resources stays the same during the quiet period
+            long[] lastCount = {-1};
+            long[] stableSince = {System.nanoTime()};
+            networkWait.until(_ -> {
+                Object count = ((JavascriptExecutor) driver).executeScript(
+                        "return document.readyState === 'complete' ? performance.getEntriesByType('resource').length : -1;");
+                long current = ((Number) count).longValue();
+                if (current < 0 || current != lastCount[0]) {
+                    lastCount[0] = current;
+                    stableSince[0] = System.nanoTime();
+                    return false;
+                }
+                return System.nanoTime() - stableSince[0] >= quietMillis * 1_000_000;
+            });
+        } catch (TimeoutException ex) {
+            logger.warn("Network was not idle after {} ms, continuing", timeout);
+        }
+    }
+
+    /**
+     * Waits until the DOM has not changed for the given quiet period.
+     * A MutationObserver injected into the page resolves a promise once no mutation occurred during the quiet period,
+     * so the wait returns in a single round trip without polling.
+     *
+     * @param quietMillis     The period without DOM mutations considered as quiet, in milliseconds.
+     * @param timeoutInMillis Optional maximum wait in milliseconds. Defaults to {@link #DEFAULT_TIMEOUT_SECONDS}.
+     */
+    public void waitForDomQuiet(long quietMillis, int... timeoutInMillis) {
+        int timeout = timeoutInMillis.length == 0 ? DEFAULT_TIMEOUT_SECONDS * 1000 : timeoutInMillis[0];
+        String script = """
+                const [quietMs, timeoutMs, done] = arguments;
+                new Promise(resolve => {
+                    const observer = new MutationObserver(() => {
+                        clearTimeout(quietTimer);
+                        quietTimer = setTimeout(() => finish(true), quietMs);
+                    });
+                    let quietTimer = setTimeout(() => finish(true), quietMs);
+                    const deadline = setTimeout(() => finish(false), timeoutMs);
+                    function finish(quiet) {
+                        observer.disconnect();
+                        clearTimeout(quietTimer);
+                        clearTimeout(deadline);
+                        resolve(quiet);
+                    }
+                    observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});
+                }).then(done);
+                """;
+
+        // The script timeout applies to the whole session, restore it for the other async scripts
+        Duration previousScriptTimeout = driver.manage().timeouts().getScriptTimeout();
+        try {
+            driver.manage().timeouts().scriptTimeout(Duration.ofMillis(timeout + 5_000L));
+            Object quiet = ((JavascriptExecutor) driver).executeAsyncScript(script, quietMillis, timeout);
+            if (!Boolean.TRUE.equals(quiet)) logger.warn("DOM was not quiet after {} ms, continuing", timeout);
+        } catch (ScriptTimeoutException ex) {
+            logger.warn("DOM was not quiet after {} ms, continuing", timeout);
+        } finally {
+            driver.manage().timeouts().scriptTimeout(previousScriptTimeout);
+        }
+    }
+
+    /**
+     * Waits until the page has settled: no network activity and no DOM mutation for a short quiet period.
+     * Use it instead of fixed sleeps after actions that trigger requests and re-rendering.
+     */
+    public void waitForPageSettled() {
+        waitForNetworkIdle(300);
+        waitForDomQuiet(200);
+    }
+
     /**
      * Retries an action when a StaleElementReferenceException is thrown.
      *
@@ -203,13 +323,34 @@ public class WebUtils {
         });
     }
 
+    /**
+     * Polls a lookup every second until it succeeds, e.g. an API search for a record just saved through the UI.
+     * Use it instead of fixed sleeps before reading back saved data.
+     *
+     * @param lookup  The lookup, throwing a RuntimeException or returning {@code null} while the result is not available.
+     * @param timeout The maximum time to wait.
+     * @param <T>     The type of the result.
+     * @return The first result of the lookup.
+     * @throws TimeoutException if the lookup still fails after the timeout.
+     */
+    public static <T> T pollUntilAvailable(Supplier<T> lookup, Duration timeout) {
+        return new FluentWait<>(lookup)
+                .withTimeout(timeout)
+                .pollingEvery(Duration.ofSeconds(1))
+                .ignoring(RuntimeException.class)
+                .until(Supplier::get);
+    }
+
     /**
      * Highlights the specified web element by adding a red border around it.
+     * Skipped unless the current {@link ExecutionProfile} highlights elements inline.
      *
      * @param locator The By locator to find the web element to be highlighted.
      * @param index   The index of the element if multiple elements match the locator.
      */
     private void highlightElement(By locator, int index) {
+        if (!ExecutionProfile.current().isInlineHighlight()) return;
+
         JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
 
         // Highlight the element with a red border
@@ -258,14 +399,19 @@ public class WebUtils {
 
     /**
      * Gets a WebElement from a list located by the specified locator and index.
+     * <p>
+     * Elements are served from the {@link ElementCache} while the page has not changed around them.
      *
      * @param locator The By locator.
      * @param index   The index of the element in the list.
      * @return The WebElement.
      */
     public WebElement getElement(By locator, int index) {
+        Supplier<WebElement> lookup = () -> retryOnStaleElement(() -> wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator)).get(index));
+        if (elementCache != null) return elementCache.get(locator, index, lookup);
+
         ((JavascriptExecutor) driver).executeScript("localStorage.setItem('awareMode', '0')");
-        return retryOnStaleElement(() -> wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator)).get(index));
+        return lookup.get();
     }
 
     /**
@@ -285,6 +431,9 @@ public class WebUtils {
     /**
      * Clicks on a web element located by the specified locator and index.
      * <p>
+     * The click is first attempted through the {@link InteractionEngine} in a single script call.
+     * The native path below is only used when the engine cannot complete the click.
+     * <p>
      * This method is designed to handle cases where multiple elements match the locator by specifying an index.
      * It briefly highlights the element by adding a red border to make it visible, ensures the element is clickable,
      * and retries fetching the element if a stale element exception occurs. If the specified index is out of bounds,
@@ -300,6 +449,21 @@ public class WebUtils {
      * @throws StaleElementReferenceException If the element is no longer attached to the DOM when trying to click.
      */
     public void click(By locator, int index) {
+        ExecutionProfile.current().run(new ActionDecorator.Step("click", driver, locator, index),
+                () -> performClick(locator, index));
+    }
+
+    /**
+     * Clicks on a web element without going through the {@link ExecutionProfile}, for use inside other actions.
+     *
+     * @param locator The By locator used to find the web element on the page.
+     * @param index   The index of the element to be clicked if multiple elements match the locator.
+     */
+    private void performClick(By locator, int index) {
+        // Resolve, check, scroll and click in one round trip
+        if (interactionEngine.click(locator, index)) return;
+        InteractionEngine.recordFallback();
+
         // Ensure that at least one element is found
         elementToBeClickable(locator, index);
 
@@ -361,13 +525,15 @@ public class WebUtils {
      *                Use 0 to click the first element.
      */
     public void clickJS(By locator, int index) {
-        // Highlight the element
-        highlightElement(locator, index);
-
-        // Retry click element by JavaScripts
-        retryOnStaleElement(() -> {
-            // Perform click using JavaScript
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click()", getElement(locator, index));
+        ExecutionProfile.current().run(new ActionDecorator.Step("clickJS", driver, locator, index), () -> {
+            // Highlight the element
+            highlightElement(locator, index);
+
+            // Retry click element by JavaScripts
+            retryOnStaleElement(() -> {
+                // Perform click using JavaScript
+                ((JavascriptExecutor) driver).executeScript("arguments[0].click()", getElement(locator, index));
+            });
         });
     }
 
@@ -401,8 +567,9 @@ public class WebUtils {
      * Sends keys to a WebElement located by the specified locator and index.
      * <p>
      * This method is intended for use with basic input fields where the entered
-     * value remains visible in the input field. It retries the operation up to 5 times
-     * if the element is stale or not interactable.
+     * value remains visible in the input field. Text content is first set through the
+     * {@link InteractionEngine} in a single script call; key events and fields the engine
+     * cannot fill use native typing, retried up to 5 times if the element is stale or not interactable.
      *
      * @param locator The {@link By} locator of the input field.
      * @param index   The index of the element in the list of elements matching the locator.
@@ -410,14 +577,23 @@ public class WebUtils {
      *                that can be converted to a string.
      */
     public void sendKeys(By locator, int index, Object content) {
-        retryUntil(5, 0, "Cannot input to field after 5 attempts",
-                () -> elementTextMatches(locator, index, getContent(content)),
-                () -> {
-                    clear(locator, index);
-                    click(locator, index);
-                    retryOnStaleElement(() -> retrySendKeysOnElementNotInteractable(locator, index, getContent(content)));
-                });
-        clickOutOfTextBox(locator, index);
+        ExecutionProfile.current().run(new ActionDecorator.Step("sendKeys", driver, locator, index), () -> {
+            // Set the value in one round trip when the content is plain text
+            if (getContent(content) instanceof String text) {
+                String value = interactionEngine.setValue(locator, index, text);
+                if (value != null && compareStringsIgnoreCase(text, value)) return;
+                InteractionEngine.recordFallback();
+            }
+
+            retryUntil(5, 0, "Cannot input to field after 5 attempts",
+                    () -> elementTextMatches(locator, index, getContent(content)),
+                    () -> {
+                        clear(locator, index);
+                        performClick(locator, index);
+                        retryOnStaleElement(() -> retrySendKeysOnElementNotInteractable(locator, index, getContent(content)));
+                    });
+            clickOutOfTextBox(locator, index);
+        });
     }
 
     /**
@@ -653,6 +829,78 @@ public class WebUtils {
         return getAttribute(locator, 0, attribute);
     }
 
+    /**
+     * Gets the visible texts of all web elements located by the specified locator in a single script execution.
+     * <p>
+     * Use this instead of calling {@link #getText(By, int)} for each index when reading a list or a table column.
+     *
+     * @param locator      The By locator.
+     * @param milliseconds Optional time to wait for the first element, defaults to 3000 ms.
+     * @return The texts in document order, or an empty list if no element is found.
+     */
+    public List<String> getTexts(By locator, int... milliseconds) {
+        return extract(locator, "text", null, WebElement::getText, milliseconds);
+    }
+
+    /**
+     * Gets an attribute of all web elements located by the specified locator in a single script execution.
+     * As with {@link WebElement#getAttribute(String)}, the element property is returned when it exists.
+     *
+     * @param locator      The By locator.
+     * @param attribute    The attribute name.
+     * @param milliseconds Optional time to wait for the first element, defaults to 3000 ms.
+     * @return The attribute values in document order, {@code null} for elements without the attribute.
+     */
+    public List<String> getAttributes(By locator, String attribute, int... milliseconds) {
+        return extract(locator, "attribute", attribute, element -> element.getAttribute(attribute), milliseconds);
+    }
+
+    /**
+     * Gets the values of all input elements located by the specified locator in a single script execution.
+     *
+     * @param locator      The By locator.
+     * @param milliseconds Optional time to wait for the first element, defaults to 3000 ms.
+     * @return The values in document order.
+     */
+    public List<String> getValues(By locator, int... milliseconds) {
+        return getAttributes(locator, "value", milliseconds);
+    }
+
+    /**
+     * Gets the visible texts of the cells of all table rows located by the specified locator in a single script execution.
+     *
+     * @param rowLocator   The By locator of the table rows ({@code tr} elements).
+     * @param milliseconds Optional time to wait for the first row, defaults to 3000 ms.
+     * @return One list of cell texts ({@code td} and {@code th}) per row, in document order.
+     */
+    public List<List<String>> getTableRows(By rowLocator, int... milliseconds) {
+        return extract(rowLocator, "cells", null, row -> row.findElements(By.xpath("./td|./th")).stream()
+                .map(WebElement::getText)
+                .toList(), milliseconds);
+    }
+
+    /**
+     * Extracts data from all elements matching a locator.
+     * XPath and CSS locators are read by {@link #EXTRACT_SCRIPT} in one round trip,
+     * other locators fall back to reading each element through WebDriver.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> extract(By locator, String mode, String name, Function<WebElement, T> fallback, int... milliseconds) {
+        // Wait for the presence of at least one element, using the provided timeout or defaulting to 3000 ms
+        int waitTime = (milliseconds.length != 0) ? milliseconds[0] : 3000;
+        if (waitForCondition(ExpectedConditions.presenceOfElementLocated(locator), waitTime) == null) return List.of();
+
+        if (locator instanceof By.Remotable remotable) {
+            By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+            if (parameters.using().equals("xpath") || parameters.using().equals("css selector")) {
+                return (List<T>) ((JavascriptExecutor) driver).executeScript(EXTRACT_SCRIPT,
+                        parameters.using(), parameters.value(), mode, name);
+            }
+        }
+
+        return retryOnStaleElement(() -> driver.findElements(locator).stream().map(fallback).toList());
+    }
+
     /**
      * Clears the text from a web element specified by the given locator and index.
      * This method attempts to clear the field using keyboard events (DELETE/END).
@@ -0,0 +1,258 @@
+package utility.helper;
+
+import api.seller.login.APISellerLogin;
+import api.seller.product.APIDeleteProduct;
+import api.seller.product.APIGetProductList;
+import api.seller.promotion.APIDeleteFlashSale;
+import api.seller.promotion.APIDeleteProductDiscountCampaign;
+import api.seller.promotion.APIGetFlashSaleList;
+import api.seller.promotion.APIGetProductDiscountCampaignList;
+import api.seller.supplier.APIDeleteSupplier;
+import api.seller.supplier.APIGetSupplierDetail;
+import api.seller.supplier.APIGetSupplierList;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Data;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import utility.PropertiesUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cleans up entities generated by the automation framework (products, suppliers and campaigns)
+ * so that listing and search APIs on shared stores stay fast.
+ * <p>
+ * Entities are identified by the naming convention used by {@link ProductHelper}, {@link SupplierHelper},
+ * {@code APICreateProduct} and the campaign APIs: a framework marker in the name followed by the
+ * creation timestamp. Only entities older than the configured minimum age are deleted, so data
+ * belonging to tests that are still running is left untouched.
+ */
+public class AutoDataReaper {
+    private static final Logger logger = LogManager.getLogger();
+
+    // Creation timestamp embedded in every generated name, e.g. "2024-11-05T10:15:30"
+    private static final Pattern TIMESTAMP_PATTERN = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}");
+
+    // Markers used by the framework when naming generated entities
+    private static final List<String> PRODUCT_MARKERS = List.of("Auto - ", "Product name - ");
+    private static final List<String> SUPPLIER_MARKERS = List.of("Supplier name ");
+    private static final List<String> CAMPAIGN_MARKERS = List.of("Auto - ");
+
+    // Campaign statuses that are safe to delete
+    private static final List<String> REAPABLE_CAMPAIGN_STATUSES = List.of("SCHEDULED", "EXPIRED");
+
+    private static ScheduledExecutorService scheduler;
+
+    private final APISellerLogin.Credentials credentials;
+    private final int threads;
+    private final int batchSize;
+    private final Duration minAge;
+    private final RateLimiter rateLimiter;
+
+    /**
+     * Constructs an AutoDataReaper with the given seller credentials.
+     * Parallelism, batch size, rate limit and minimum age are read from the configuration properties.
+     *
+     * @param credentials the seller's credentials.
+     */
+    public AutoDataReaper(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
+        this.threads = PropertiesUtils.getReaperThreads();
+        this.batchSize = PropertiesUtils.getReaperBatchSize();
+        this.minAge = Duration.ofMinutes(PropertiesUtils.getReaperMinAgeMinutes());
+        this.rateLimiter = RateLimiter.create(PropertiesUtils.getReaperRequestsPerSecond());
+    }
+
+    /**
+     * Summary of a reaper run, including the store size before and after the cleanup.
+     */
+    @Data
+    public static class ReapReport {
+        private int productsBefore;
+        private int productsAfter;
+        private int suppliersBefore;
+        private int suppliersAfter;
+        private int deleted;
+        private int failed;
+
+        @Override
+        public String toString() {
+            return "products %d -> %d, suppliers %d -> %d, deleted %d, failed %d".formatted(
+                    productsBefore, productsAfter, suppliersBefore, suppliersAfter, deleted, failed);
+        }
+    }
+
+    /**
+     * Deletes all framework-generated products, suppliers, flash sales and discount campaigns
+     * older than the configured minimum age.
+     *
+     * @return A {@link ReapReport} describing the store size before and after the cleanup.
+     */
+    public ReapReport reap() {
+        APIGetProductList apiGetProductList = new APIGetProductList(credentials);
+        APIGetSupplierList apiGetSupplierList = new APIGetSupplierList(credentials);
+
+        ReapReport report = new ReapReport();
+        report.setProductsBefore(apiGetProductList.getTotalOfProducts());
+        report.setSuppliersBefore(apiGetSupplierList.getTotalOfSuppliers());
+        logger.info("Reaper started, store has {} products and {} suppliers", report.getProductsBefore(), report.getSuppliersBefore());
+
+        AtomicInteger deleted = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // Products
+            List<Integer> productIds = PRODUCT_MARKERS.stream()
+                    .flatMap(marker -> apiGetProductList.getAllProductInformation(marker).stream())
+                    .filter(product -> isReapable(product.getName(), PRODUCT_MARKERS))
+                    .map(APIGetProductList.Product::getId)
+                    .distinct()
+                    .toList();
+            deleteInBatches(executor, "product", productIds, new APIDeleteProduct(credentials)::deleteProduct, deleted, failed);
+
+            // Suppliers
+            List<Integer> supplierIds = SUPPLIER_MARKERS.stream()
+                    .flatMap(marker -> apiGetSupplierList.getAllSupplierInformation(marker).stream())
+                    .filter(supplier -> isReapable(supplier.getName(), SUPPLIER_MARKERS))
+                    .map(APIGetSupplierDetail.SupplierInformation::getId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            deleteInBatches(executor, "supplier", supplierIds, new APIDeleteSupplier(credentials)::deleteSupplier, deleted, failed);
+
+            // Flash sale campaigns
+            APIGetFlashSaleList apiGetFlashSaleList = new APIGetFlashSaleList(credentials);
+            List<Integer> flashSaleIds = REAPABLE_CAMPAIGN_STATUSES.stream()
+                    .flatMap(status -> apiGetFlashSaleList.getFlashSaleList(status).stream())
+                    .filter(campaign -> isReapable(campaign.getName(), CAMPAIGN_MARKERS))
+                    .map(APIGetFlashSaleList.FlashSaleCampaign::getId)
+                    .distinct()
+                    .toList();
+            deleteInBatches(executor, "flash sale", flashSaleIds, new APIDeleteFlashSale(credentials)::deleteScheduledFlashSale, deleted, failed);
+
+            // Product discount campaigns
+            APIGetProductDiscountCampaignList apiGetDiscountCampaignList = new APIGetProductDiscountCampaignList(credentials);
+            List<Integer> discountCampaignIds = REAPABLE_CAMPAIGN_STATUSES.stream()
+                    .flatMap(status -> apiGetDiscountCampaignList.getDiscountCampaignList(status).stream())
+                    .filter(campaign -> isReapable(campaign.getName(), CAMPAIGN_MARKERS))
+                    .map(APIGetProductDiscountCampaignList.DiscountCampaign::getId)
+                    .distinct()
+                    .toList();
+            deleteInBatches(executor, "discount campaign", discountCampaignIds, new APIDeleteProductDiscountCampaign(credentials)::deleteDiscountCampaign, deleted, failed);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        report.setDeleted(deleted.get());
+        report.setFailed(failed.get());
+        report.setProductsAfter(apiGetProductList.getTotalOfProducts());
+        report.setSuppliersAfter(apiGetSupplierList.getTotalOfSuppliers());
+        logger.info("Reaper finished: {}", report);
+        return report;
+    }
+
+    /**
+     * Deletes the given entities in parallel batches, respecting the configured request rate.
+     * Failures are logged and counted but do not stop the run.
+     *
+     * @param executor   The executor used to run the deletions.
+     * @param entityType The entity type, used for logging.
+     * @param ids        The IDs of the entities to delete.
+     * @param deleter    The API call that deletes a single entity.
+     * @param deleted    Counter of successful deletions.
+     * @param failed     Counter of failed deletions.
+     */
+    private void deleteInBatches(ExecutorService executor, String entityType, List<Integer> ids, IntConsumer deleter,
+                                 AtomicInteger deleted, AtomicInteger failed) {
+        if (ids.isEmpty()) return;
+        logger.info("Reaping {} {}(s)", ids.size(), entityType);
+
+        for (List<Integer> batch : ListUtils.partition(ids, batchSize)) {
+            List<Callable<Void>> tasks = batch.stream()
+                    .<Callable<Void>>map(id -> () -> {
+                        rateLimiter.acquire();
+                        try {
+                            deleter.accept(id);
+                            deleted.incrementAndGet();
+                        } catch (RuntimeException | AssertionError ex) {
+                            failed.incrementAndGet();
+                            logger.warn("Failed to delete {} id: {}, {}", entityType, id, ex.getMessage());
+                        }
+                        return null;
+                    })
+                    .toList();
+
+            try {
+                executor.invokeAll(tasks);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Reaper interrupted while deleting %s(s)".formatted(entityType), e);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a name follows the framework naming convention and is old enough to be deleted.
+     *
+     * @param name    The entity name.
+     * @param markers The markers identifying framework-generated entities of this type.
+     * @return {@code true} if the entity was generated by the framework and is older than the minimum age.
+     */
+    private boolean isReapable(String name, List<String> markers) {
+        if (name == null || markers.stream().noneMatch(name::contains)) return false;
+
+        Matcher matcher = TIMESTAMP_PATTERN.matcher(name);
+        if (!matcher.find()) return false;
+
+        try {
+            LocalDateTime createdTime = LocalDateTime.parse(matcher.group());
+            return createdTime.plus(minAge).isBefore(LocalDateTime.now());
+        } catch (DateTimeParseException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Starts a background schedule that runs the reaper at a fixed interval.
+     * Calling this method while a schedule is already running has no effect.
+     *
+     * @param credentials The seller's credentials.
+     * @param interval    The interval between two runs.
+     */
+    public static synchronized void startSchedule(APISellerLogin.Credentials credentials, Duration interval) {
+        if (scheduler != null) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auto-data-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                new AutoDataReaper(credentials).reap();
+            } catch (RuntimeException ex) {
+                logger.warn("Scheduled reaper run failed: {}", ex.getMessage());
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        logger.info("Scheduled reaper every {} minutes", interval.toMinutes());
+    }
+
+    /**
+     * Stops the background schedule started by {@link #startSchedule(APISellerLogin.Credentials, Duration)}.
+     */
+    public static synchronized void stopSchedule() {
+        if (scheduler == null) return;
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+}
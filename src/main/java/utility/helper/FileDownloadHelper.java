@@ -1,21 +1,50 @@
 package utility.helper;
 
-import java.io.BufferedInputStream;
-import java.io.FileOutputStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A utility class for downloading files from a URL and saving them to a specified local path.
  */
 public class FileDownloadHelper {
+    private static final Logger logger = LogManager.getLogger();
+
+    // Response headers carrying a checksum of the content, checked after the ETag
+    private static final List<String> CHECKSUM_HEADERS = List.of("x-amz-checksum-sha256", "x-checksum-sha256", "x-goog-hash", "Content-MD5");
+
+    // Locks by cache key, as file locks cannot be shared by threads of the same JVM
+    private static final Map<String, ReentrantLock> cacheLocks = new ConcurrentHashMap<>();
 
     /**
      * Downloads a file from the given URL and saves it to the specified destination.
+     * The file is written to a temporary file first and renamed once complete, so readers never see a partial file.
      *
      * @param fileUrl        The URL of the file to be downloaded. Must be a valid URI format.
      * @param destinationPath The local path where the file will be saved. If the directory does not exist, it will be created.
@@ -27,17 +56,177 @@ public class FileDownloadHelper {
         Path destination = Paths.get(destinationPath);
         Files.createDirectories(destination.getParent());
 
-        // Open the URL stream and download the file
-        try (BufferedInputStream in = new BufferedInputStream(new URI(fileUrl).toURL().openStream());
-             FileOutputStream fileOutputStream = new FileOutputStream(destination.toFile())) {
+        Path partFile = Files.createTempFile(destination.getParent(), destination.getFileName().toString(), ".part");
+        try {
+            transfer(openConnection(toURL(fileUrl), 0, null), partFile, 0);
+            Files.move(partFile, destination, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(partFile);
+        }
+    }
+
+    /**
+     * Downloads a file into a cache directory, unless the same version was already downloaded.
+     * <p>
+     * The version is identified by the URL and the ETag of the response, or else a checksum header or the
+     * Last-Modified date, read with a HEAD request. A cache hit returns the cached file without downloading anything.
+     * On a miss, the file is streamed into a {@code .part} file that a later attempt resumes from, then renamed
+     * atomically. Servers that do not identify versions are downloaded every time, and the file is stored under the
+     * checksum of its content so an unchanged file keeps the same path.
+     * <p>
+     * Concurrent calls for the same file, from any thread or JVM, wait for a single download.
+     *
+     * @param fileUrl        The URL of the file to be downloaded. Must be a valid URI format.
+     * @param cacheDirectory The directory of the cached files. If it does not exist, it will be created.
+     * @param extension      The extension of the cached file, such as ".apk", which tools like Appium rely on.
+     * @return The path of the cached file.
+     * @throws IOException      If an I/O error occurs during the file download or save process.
+     * @throws RuntimeException If the provided URL is not a valid URI.
+     */
+    public static Path downloadCached(String fileUrl, String cacheDirectory, String extension) throws IOException {
+        URL url = toURL(fileUrl);
+        Path directory = Files.createDirectories(Paths.get(cacheDirectory));
+
+        // Identify the version without downloading it
+        String validator = getValidator(url);
+        String key = sha256(validator == null ? fileUrl : fileUrl + "\n" + validator);
+        Path cachedFile = directory.resolve(key + extension);
+
+        ReentrantLock lock = cacheLocks.computeIfAbsent(key, k -> new ReentrantLock());
+        lock.lock();
+        try (FileChannel lockChannel = FileChannel.open(directory.resolve(key + ".lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = lockChannel.lock()) {
+            if (validator != null && Files.exists(cachedFile)) {
+                logger.info("Using cached file {} for {}", cachedFile.getFileName(), url.getPath());
+                return cachedFile;
+            }
+
+            // Resume a previous attempt, as long as the server can tell it still serves the same version
+            Path partFile = directory.resolve(key + ".part");
+            boolean resumable = validator != null && (validator.startsWith("ETag: ") || validator.startsWith("Last-Modified: "));
+            long offset = resumable && Files.exists(partFile) ? Files.size(partFile) : 0;
+            long start = System.currentTimeMillis();
+            String checksum = transfer(openConnection(url, offset, validator), partFile, offset);
+
+            // Without a version, address the file by its content
+            if (validator == null) cachedFile = directory.resolve(checksum + extension);
+            Files.move(partFile, cachedFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            logger.info("Downloaded {} to {} in {} ms", url.getPath(), cachedFile.getFileName(), System.currentTimeMillis() - start);
+            return cachedFile;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads the header identifying the version served at a URL.
+     *
+     * @param url The URL of the file.
+     * @return The ETag, checksum or Last-Modified date with its header name, or {@code null} if the server does not provide one.
+     */
+    private static String getValidator(URL url) {
+        try {
+            URLConnection connection = url.openConnection();
+            if (!(connection instanceof HttpURLConnection httpConnection)) {
+                // Local files are identified by their modification date
+                return "Last-Modified: " + connection.getLastModified();
+            }
 
-            byte[] dataBuffer = new byte[1024];
-            int bytesRead;
-            while ((bytesRead = in.read(dataBuffer)) != -1) {
-                fileOutputStream.write(dataBuffer, 0, bytesRead);
+            httpConnection.setRequestMethod("HEAD");
+            try {
+                if (httpConnection.getResponseCode() / 100 != 2) return null;
+                if (httpConnection.getHeaderField("ETag") != null) return "ETag: " + httpConnection.getHeaderField("ETag");
+                for (String header : CHECKSUM_HEADERS) {
+                    if (httpConnection.getHeaderField(header) != null) return header + ": " + httpConnection.getHeaderField(header);
+                }
+                return Optional.ofNullable(httpConnection.getHeaderField("Last-Modified"))
+                        .map(lastModified -> "Last-Modified: " + lastModified + ", Content-Length: " + httpConnection.getContentLengthLong())
+                        .orElse(null);
+            } finally {
+                httpConnection.disconnect();
             }
+        } catch (IOException e) {
+            logger.warn("Cannot identify the version of {}, downloading it: {}", url.getPath(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Opens a connection to a file, requesting the remaining bytes from an offset.
+     *
+     * @param url       The URL of the file.
+     * @param offset    The number of bytes already downloaded.
+     * @param validator The version the downloaded bytes belong to, or {@code null}.
+     * @return The connection.
+     * @throws IOException If the connection cannot be opened.
+     */
+    private static URLConnection openConnection(URL url, long offset, String validator) throws IOException {
+        URLConnection connection = url.openConnection();
+        if (offset > 0 && connection instanceof HttpURLConnection) {
+            connection.setRequestProperty("Range", "bytes=%d-".formatted(offset));
+
+            // The server sends the whole file instead if the version changed since the partial download
+            String value = validator.substring(validator.indexOf(": ") + 2);
+            if (validator.startsWith("ETag: ")) connection.setRequestProperty("If-Range", value);
+            else if (validator.startsWith("Last-Modified: ")) connection.setRequestProperty("If-Range", value.split(", Content-Length")[0]);
+        }
+        return connection;
+    }
+
+    /**
+     * Streams the body of a connection into a file through {@link FileChannel#transferFrom}.
+     *
+     * @param connection The connection.
+     * @param file       The file to write.
+     * @param offset     The number of bytes already in the file, kept if the server resumes from there.
+     * @return The SHA-256 checksum of the bytes received.
+     * @throws IOException If an I/O error occurs, or if the body is shorter than announced.
+     */
+    private static String transfer(URLConnection connection, Path file, long offset) throws IOException {
+        // A server ignoring the range request sends the whole file
+        long position = connection instanceof HttpURLConnection httpConnection
+                && httpConnection.getResponseCode() == HttpURLConnection.HTTP_PARTIAL ? offset : 0;
+        if (offset > 0) logger.info("Resuming download at {} bytes", position);
+
+        long start = position;
+        MessageDigest digest = newSha256();
+        try (InputStream in = new DigestInputStream(connection.getInputStream(), digest);
+             ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel target = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            target.truncate(position);
+            long transferred;
+            while ((transferred = target.transferFrom(source, position, 1 << 20)) > 0) {
+                position += transferred;
+            }
+        } finally {
+            if (connection instanceof HttpURLConnection httpConnection) httpConnection.disconnect();
+        }
+
+        // The partial file is kept, the next attempt resumes from it
+        long expectedSize = connection.getContentLengthLong();
+        if (expectedSize >= 0 && position - start < expectedSize) {
+            throw new IOException("Incomplete download of %s: %d of %d bytes".formatted(connection.getURL(), position - start, expectedSize));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static URL toURL(String fileUrl) throws IOException {
+        try {
+            return new URI(fileUrl).toURL();
         } catch (URISyntaxException e) {
             throw new RuntimeException("Invalid URL format: " + fileUrl, e);
         }
     }
+
+    private static String sha256(String value) {
+        return HexFormat.of().formatHex(newSha256().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
 }
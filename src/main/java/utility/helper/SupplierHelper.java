@@ -1,8 +1,6 @@
 package utility.helper;
 
-import api.others.APIGetDistricts;
-import api.others.APIGetProvinces;
-import api.others.APIGetWards;
+import api.others.AddressCatalog;
 import api.seller.login.APISellerLogin;
 import api.seller.setting.APIGetStaffList;
 import utility.CountryUtils;
@@ -48,15 +46,15 @@ public class SupplierHelper {
         supplierInfo.setResponsibleStaff(staff.getId() == 0 ? "" : String.valueOf(staff.getId()));
         supplierInfo.setResponsibleStaffName(staff.getName());
 
-        // Province: Random based on countryCode
-        var province = new APIGetProvinces(credentials).randomProvince(supplierInfo.getCountryCode());
-        String provinceCode = province.getCode();
-        supplierInfo.setProvince(provinceCode);
+        // Address: Random province, district and ward from the local catalog of the country
+        var address = AddressCatalog.of(credentials, supplierInfo.getCountryCode()).randomAddress();
+        var province = address.province();
+        supplierInfo.setProvince(province.getCode());
 
         // Handle Vietnam-specific details
         if (isVNSupplier) {
             supplierInfo.setVietnamCityName(langKey.equals("vi") ? province.getInCountry() : province.getOutCountry());
-            populateVietnamSpecificAttributes(credentials, supplierInfo, provinceCode);
+            populateVietnamSpecificAttributes(supplierInfo, address);
             return supplierInfo;
         }
 
@@ -69,13 +67,12 @@ public class SupplierHelper {
     /**
      * Populates attributes specific to Vietnam suppliers.
      *
-     * @param credentials  API credentials for fetching location details.
      * @param supplierInfo SupplierInformation object to populate.
-     * @param provinceCode The code of the selected province.
+     * @param address      The randomly selected address.
      */
-    private static void populateVietnamSpecificAttributes(APISellerLogin.Credentials credentials, SupplierInformation supplierInfo, String provinceCode) {
-        var district = new APIGetDistricts(credentials).randomDistrict(provinceCode);
-        var ward = new APIGetWards(credentials).randomWard(district.getCode());
+    private static void populateVietnamSpecificAttributes(SupplierInformation supplierInfo, AddressCatalog.Address address) {
+        var district = address.district();
+        var ward = address.ward();
 
         supplierInfo.setDistrict(district.getCode());
         supplierInfo.setVietnamDistrictName(langKey.equals("vi") ? district.getInCountry() : district.getOutCountry());
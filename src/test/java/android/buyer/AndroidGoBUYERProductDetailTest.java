@@ -48,7 +48,7 @@ public class AndroidGoBUYERProductDetailTest extends BaseTest {
 
     @AfterClass
     void tearDown() {
-        if (driver != null)   driver.quit();
+        releaseDriver();
     }
 
     /**
@@ -34,6 +34,15 @@ public class AndroidGoSELLERCreateProductTest extends BaseTest {
         productScreen = new AndroidBaseProductScreen(driver).fetchInformation();
     }
 
+    /**
+     * Cleans up after the test suite by releasing the WebDriver instance.
+     * This method runs after all tests in the suite are completed.
+     */
+    @AfterClass
+    void tearDown() {
+        releaseDriver();
+    }
+
     /**
      * Generates a test data object containing flags and a test name.
      *
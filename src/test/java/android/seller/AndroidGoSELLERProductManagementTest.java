@@ -2,6 +2,7 @@ package android.seller;
 
 import baseTest.BaseTest;
 import org.apache.logging.log4j.LogManager;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -26,6 +27,15 @@ public class AndroidGoSELLERProductManagementTest extends BaseTest {
         productManagementScreen = new AndroidProductManagementScreen(driver);
     }
 
+    /**
+     * Cleans up after the test suite by releasing the WebDriver instance.
+     * This method runs after all tests in the suite are completed.
+     */
+    @AfterClass
+    void tearDown() {
+        releaseDriver();
+    }
+
     /**
      * Data Provider for product sorting and filtering test cases.
      *
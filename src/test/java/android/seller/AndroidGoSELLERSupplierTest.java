@@ -43,12 +43,12 @@ public class AndroidGoSELLERSupplierTest extends BaseTest {
     }
 
     /**
-     * Cleans up after the test suite by quitting the WebDriver instance.
+     * Cleans up after the test suite by releasing the WebDriver instance.
      * This method runs after all tests in the suite are completed.
      */
     @AfterClass
     void tearDown() {
-        if (driver != null) driver.quit();
+        releaseDriver();
     }
 
     /**
@@ -37,6 +37,15 @@ public class AndroidGoSELLERUpdateProductTest extends BaseTest {
         productScreen = new AndroidBaseProductScreen(driver).fetchInformation();
     }
 
+    /**
+     * Cleans up after the test suite by releasing the WebDriver instance.
+     * This method runs after all tests in the suite are completed.
+     */
+    @AfterClass
+    void tearDown() {
+        releaseDriver();
+    }
+
     /**
      * Generates a test object array for product update scenarios.
      *
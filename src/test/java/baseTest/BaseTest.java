@@ -2,13 +2,18 @@ package baseTest;
 
 import api.seller.login.APISellerLogin;
 import org.openqa.selenium.WebDriver;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
+import utility.BrowserMemoryWatchdog;
 import utility.ListenerUtils;
+import utility.MobileSessionManager;
 import utility.PropertiesUtils;
-import utility.WebDriverManager;
+import utility.TestContext;
+import utility.WebDriverPool;
 import utility.helper.FileDownloadHelper;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.net.URISyntaxException;
 
 @Listeners(ListenerUtils.class)
@@ -16,10 +21,13 @@ public class BaseTest {
     public WebDriver driver;
     public APISellerLogin.Credentials sellerCredentials = PropertiesUtils.getSellerCredentials();
     public APISellerLogin.Credentials buyerCredentials = PropertiesUtils.getBuyerCredentials();
+    private String platform;
 
     /**
      * Initializes the driver based on the given test type and platform.
      * It handles Android, iOS, and Web platforms and downloads the appropriate app based on the test type (SELLER/BUYER).
+     * Web drivers are leased from the {@link WebDriverPool} and mobile drivers from the {@link MobileSessionManager};
+     * both must be returned with {@link #releaseDriver()}.
      *
      * @param testType The type of the test (SELLER or BUYER).
      * @param platform The platform to run the test on (WEB, ANDROID, IOS).
@@ -28,28 +36,70 @@ public class BaseTest {
      * @throws IllegalArgumentException If an unsupported platform is provided.
      */
     public void initDriver(String testType, String platform) throws IOException, URISyntaxException {
+        this.platform = platform;
         switch (platform) {
             case "WEB":
-                driver = WebDriverManager.getWebDriver();
+                driver = WebDriverPool.lease();
                 break;
 
             case "ANDROID":
-                String androidAppPath = System.getProperty("user.dir") + "/app/app.apk";
                 String androidAppURL = getAndroidAppURL(testType);
-                downloadAppFile(androidAppURL, androidAppPath);
-                driver = WebDriverManager.getAndroidDriver(PropertiesUtils.getAndroidEmulatorUdid(), androidAppPath);
+                String androidAppPath = downloadAppFile(androidAppURL, ".apk");
+                driver = MobileSessionManager.acquireAndroidDriver(PropertiesUtils.getAndroidEmulatorUdid(), androidAppURL, androidAppPath);
                 break;
 
             case "IOS":
-                String iosAppPath = System.getProperty("user.dir") + "/app/app.zip";
                 String iosAppURL = getIosAppURL(testType);
-                downloadAppFile(iosAppURL, iosAppPath);
-                driver = WebDriverManager.getIOSDriver(PropertiesUtils.getIOSSimulatorUdid(), iosAppPath);
+                String iosAppPath = downloadAppFile(iosAppURL, ".zip");
+                driver = MobileSessionManager.acquireIOSDriver(PropertiesUtils.getIOSSimulatorUdid(), iosAppURL, iosAppPath);
                 break;
 
             default:
                 throw new IllegalArgumentException("Unsupported platform: " + platform);
         }
+
+        // Expose the driver to the listener for screenshots
+        TestContext.registerDriver(this, driver);
+    }
+
+    /**
+     * Releases the driver created by {@link #initDriver(String, String)}.
+     * Web drivers are returned to the {@link WebDriverPool}, mobile sessions stay open for the next test class.
+     */
+    public void releaseDriver() {
+        if (driver == null) return;
+        TestContext.unregisterDriver(this);
+        if ("WEB".equals(platform)) WebDriverPool.release(driver);
+        else MobileSessionManager.release(driver);
+        driver = null;
+    }
+
+    /**
+     * Samples the memory of the web browser before each test and recycles it through the {@link BrowserMemoryWatchdog}
+     * when it grew too large. The replacement browser carries the same login session; page objects holding the old
+     * driver are rebuilt in {@link #onDriverRecycled()}.
+     *
+     * @param method     The test method about to run.
+     * @param parameters The parameters of the test method, the first one naming data-driven tests.
+     */
+    @BeforeMethod(alwaysRun = true)
+    public void checkBrowserMemory(Method method, Object[] parameters) {
+        if (!"WEB".equals(platform) || driver == null) return;
+
+        String testName = parameters.length > 0 ? parameters[0].toString() : method.getName();
+        WebDriver checkedDriver = BrowserMemoryWatchdog.check(driver, testName);
+        if (checkedDriver == driver) return;
+
+        driver = checkedDriver;
+        TestContext.registerDriver(this, driver);
+        onDriverRecycled();
+    }
+
+    /**
+     * Called after the browser was recycled, to rebuild the page objects of the test class with the new {@link #driver}.
+     * The login session has already been restored.
+     */
+    protected void onDriverRecycled() {
     }
 
     /**
@@ -73,13 +123,14 @@ public class BaseTest {
     }
 
     /**
-     * Helper method to download the app file.
+     * Helper method to download the app file into the app cache, skipped when the same build was already downloaded.
      *
-     * @param appURL The URL to download the app from.
-     * @param appPath The local path to save the app.
+     * @param appURL    The URL to download the app from.
+     * @param extension The extension of the app file, such as ".apk".
+     * @return The local path of the app.
      * @throws IOException If there's an issue with downloading the app file.
      */
-    private void downloadAppFile(String appURL, String appPath) throws IOException {
-        FileDownloadHelper.downloadFile(appURL, appPath);
+    private String downloadAppFile(String appURL, String extension) throws IOException {
+        return FileDownloadHelper.downloadCached(appURL, System.getProperty("user.dir") + "/app/cache", extension).toString();
     }
 }
@@ -51,7 +51,7 @@ public class IOSGoBUYERProductDetailTest extends BaseTest {
 
     @AfterClass
     void tearDown() {
-        if (driver != null)   driver.quit();
+        releaseDriver();
     }
 
     /**
@@ -35,6 +35,15 @@ public class IOSGoSELLERUpdateProductTest extends BaseTest {
         productScreen = new IOSBaseProductScreen(driver).fetchInformation();
     }
 
+    /**
+     * Cleans up after the test suite by releasing the WebDriver instance.
+     * This method runs after all tests in the suite are completed.
+     */
+    @AfterClass
+    void tearDown() {
+        releaseDriver();
+    }
+
     /**
      * Generates a test object array for product update scenarios.
      *
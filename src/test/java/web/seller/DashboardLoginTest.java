@@ -27,11 +27,19 @@ public class DashboardLoginTest extends BaseTest {
     }
 
     /**
-     * Clean up resources after tests by quitting the WebDriver.
+     * Clean up resources after tests by releasing the WebDriver.
      */
     @AfterClass
     void tearDown() {
-        if (driver != null) driver.quit();
+        releaseDriver();
+    }
+
+    /**
+     * Rebuilds the login page for the browser that replaced a recycled one.
+     */
+    @Override
+    protected void onDriverRecycled() {
+        loginPage = new DashboardLoginPage(driver);
     }
 
     /**
@@ -21,12 +21,20 @@ public class DashboardProductManagementTest extends BaseTest {
     }
 
     /**
-     * Cleans up after the test suite by quitting the WebDriver instance.
+     * Cleans up after the test suite by releasing the WebDriver instance.
      * This method runs after all tests in the suite are completed.
      */
     @AfterClass
     void tearDown() {
-        if (driver != null) driver.quit();
+        releaseDriver();
+    }
+
+    /**
+     * Rebuilds the product management page for the browser that replaced a recycled one.
+     */
+    @Override
+    protected void onDriverRecycled() {
+        productManagementPage = new ProductManagementPage(driver).fetchInformation(sellerCredentials);
     }
 
     @DataProvider(name = "bulkUpdateActions")
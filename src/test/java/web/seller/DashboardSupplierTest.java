@@ -39,12 +39,20 @@ public class DashboardSupplierTest extends BaseTest {
     }
 
     /**
-     * Cleans up after the test suite by quitting the WebDriver instance.
+     * Cleans up after the test suite by releasing the WebDriver instance.
      * This method runs after all tests in the suite are completed.
      */
     @AfterClass
     void tearDown() {
-        if (driver != null) driver.quit();
+        releaseDriver();
+    }
+
+    /**
+     * Rebuilds the supplier page for the browser that replaced a recycled one.
+     */
+    @Override
+    protected void onDriverRecycled() {
+        baseSupplierPage = new BaseSupplierPage(driver);
     }
 
     /**
@@ -38,12 +38,20 @@ public class DashboardUpdateProductTest extends BaseTest {
     }
 
     /**
-     * Cleans up after the test suite by quitting the WebDriver instance.
+     * Cleans up after the test suite by releasing the WebDriver instance.
      * This method runs after all tests in the suite are completed.
      */
     @AfterClass
     void tearDown() {
-        if (driver != null) driver.quit();
+        releaseDriver();
+    }
+
+    /**
+     * Rebuilds the product page for the browser that replaced a recycled one.
+     */
+    @Override
+    protected void onDriverRecycled() {
+        productPage = new BaseProductPage(driver).fetchInformation(sellerCredentials);
     }
 
     /**